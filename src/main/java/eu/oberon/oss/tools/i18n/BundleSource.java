@@ -0,0 +1,151 @@
+package eu.oberon.oss.tools.i18n;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+
+/**
+ * A location holding the property files of message bundles: a directory, a directory on the class path, or a directory
+ * in a jar or zip file. A resolver built from several sources merges their messages when the bundle is loaded.
+ * <p>
+ * A source only describes the location; archives are opened while the bundle is loaded and closed again afterwards.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+public final class BundleSource {
+    @Getter
+    private final String description;
+    private final Opener opener;
+
+    private BundleSource(String description, Opener opener) {
+        this.description = description;
+        this.opener = opener;
+    }
+
+    /**
+     * Creates a source for a directory.
+     *
+     * @param directory The directory holding the property files.
+     *
+     * @return The source.
+     *
+     * @since 1.0.0
+     */
+    public static BundleSource directory(@NotNull File directory) {
+        Path path = directory.toPath();
+        return new BundleSource("directory " + directory, () -> new Location(path, null));
+    }
+
+    /**
+     * Creates a source for a directory in a jar or zip file.
+     *
+     * @param archive        The jar or zip file.
+     * @param entryDirectory The directory in the archive holding the property files, or an empty string for the root
+     *                       of the archive.
+     *
+     * @return The source.
+     *
+     * @since 1.0.0
+     */
+    public static BundleSource archive(@NotNull Path archive, @NotNull String entryDirectory) {
+        return new BundleSource("archive " + archive + "!/" + entryDirectory, () -> {
+            FileSystem fileSystem = FileSystems.newFileSystem(archive);
+            return new Location(fileSystem.getPath("/" + entryDirectory), fileSystem);
+        });
+    }
+
+    /**
+     * Creates a source for a directory on the class path of the class loader that loaded this class.
+     *
+     * @param prefix The resource name of the directory holding the property files, such as {@code i18n/messages}.
+     *
+     * @return The source.
+     *
+     * @since 1.0.0
+     */
+    public static BundleSource classPath(@NotNull String prefix) {
+        return classPath(BundleSource.class.getClassLoader(), prefix);
+    }
+
+    /**
+     * Creates a source for a directory on the class path. The directory must be part of a directory or a jar file on
+     * the class path.
+     *
+     * @param classLoader The class loader to find the directory with.
+     * @param prefix      The resource name of the directory holding the property files, such as {@code i18n/messages}.
+     *
+     * @return The source.
+     *
+     * @since 1.0.0
+     */
+    public static BundleSource classPath(@NotNull ClassLoader classLoader, @NotNull String prefix) {
+        return new BundleSource("class path resource " + prefix, () -> {
+            URL url = classLoader.getResource(prefix);
+            if (url == null) {
+                throw new IOException("Class path resource '" + prefix + "' does not exist");
+            }
+            try {
+                if ("file".equals(url.getProtocol())) {
+                    return new Location(Path.of(url.toURI()), null);
+                }
+                if ("jar".equals(url.getProtocol())) {
+                    JarURLConnection connection = (JarURLConnection) url.openConnection();
+                    return archive(Path.of(connection.getJarFileURL().toURI()), connection.getEntryName()).open();
+                }
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid location of class path resource '" + prefix + "': " + url, e);
+            }
+            throw new IOException("Class path resource '" + prefix + "' is not in a directory or jar file: " + url);
+        });
+    }
+
+    /**
+     * Opens the source.
+     *
+     * @return The location of the property files, to be closed when the files have been read.
+     *
+     * @throws IOException if the source cannot be opened.
+     * @since 1.0.0
+     */
+    Location open() throws IOException {
+        return opener.open();
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    /**
+     * The directory of an opened source, and the file system to close when it was opened for the source.
+     *
+     * @param directory  The directory holding the property files.
+     * @param fileSystem The file system opened for the source, if any.
+     *
+     * @since 1.0.0
+     */
+    record Location(Path directory, @Nullable FileSystem fileSystem) implements Closeable {
+        @Override
+        public void close() throws IOException {
+            if (fileSystem != null) {
+                fileSystem.close();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Opener {
+        Location open() throws IOException;
+    }
+}
@@ -0,0 +1,137 @@
+package eu.oberon.oss.tools.i18n;
+
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Watches a message bundle directory for created, modified and deleted property files, and reports the changed files
+ * to a listener on a daemon thread. Events arriving in quick succession, as editors tend to produce, are reported as a
+ * single change.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+@Log4j2
+final class BundleWatcher implements Closeable {
+    private static final long SETTLE_MILLIS = 100;
+
+    /**
+     * Receives the names of the property files that changed.
+     *
+     * @since 1.0.0
+     */
+    @FunctionalInterface
+    interface Listener {
+        /**
+         * Called after property files of the bundle changed.
+         *
+         * @param changedFiles The names of the changed files, or {@literal <null>} if events were lost and all files
+         *                     must be considered changed.
+         */
+        void filesChanged(@Nullable Set<Path> changedFiles);
+    }
+
+    private final WatchService watchService;
+    private final String baseName;
+    // Matches the files selected when the bundle is loaded: <baseName>.properties and <baseName>_<locale>.properties.
+    private final Pattern bundleFilePattern;
+    private final Listener listener;
+
+    /**
+     * Starts watching the directory.
+     *
+     * @param directory The directory to watch.
+     * @param baseName  The base name of the bundle; only property files of this bundle are reported.
+     * @param listener  The listener to report changes to.
+     *
+     * @throws IOException if the directory cannot be watched.
+     * @since 1.0.0
+     */
+    BundleWatcher(@NotNull Path directory, @NotNull String baseName, @NotNull Listener listener) throws IOException {
+        this.baseName = baseName;
+        this.bundleFilePattern = Pattern.compile(Pattern.quote(baseName) + "(?:_.+)?\\.properties");
+        this.listener = listener;
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+
+        Thread thread = new Thread(this::run, "message-bundle-watcher-" + baseName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Set<Path> changedFiles = new HashSet<>();
+                boolean overflow = false;
+                while (key != null) {
+                    overflow |= collect(key, changedFiles);
+                    key.reset();
+                    key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                if (overflow || !changedFiles.isEmpty()) {
+                    notifyListener(overflow ? null : changedFiles);
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            LOGGER.debug("Stopped watching bundle '{}'", baseName);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean collect(WatchKey key, Set<Path> changedFiles) {
+        boolean overflow = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                overflow = true;
+            } else if (event.context() instanceof Path file && isBundleFile(file)) {
+                changedFiles.add(file);
+            }
+        }
+        return overflow;
+    }
+
+    /**
+     * Checks whether a file is a property file of the bundle. Files of other bundles in the same directory, including
+     * bundles whose base name starts with this base name, are not.
+     *
+     * @param file The file.
+     *
+     * @return <b>True</b> if the file is a property file of the bundle.
+     *
+     * @since 1.0.0
+     */
+    boolean isBundleFile(Path file) {
+        return bundleFilePattern.matcher(file.getFileName().toString()).matches();
+    }
+
+    private void notifyListener(@Nullable Set<Path> changedFiles) {
+        try {
+            listener.filesChanged(changedFiles);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to process changes of bundle '{}'", baseName, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
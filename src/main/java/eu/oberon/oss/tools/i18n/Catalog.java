@@ -0,0 +1,332 @@
+package eu.oberon.oss.tools.i18n;
+
+import eu.oberon.oss.tools.i18n.loader.LocalesLoader;
+import eu.oberon.oss.tools.i18n.loader.PropertiesParser;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * An immutable snapshot of all messages of a message bundle: the merged content of the property files of each locale
+ * and the flattened {@link LocaleTable} of each available locale. A resolver publishes a snapshot through a single
+ * reference, so a reload replaces all tables at once and lookups never see a partially loaded bundle.
+ * <p>
+ * The property files may come from several {@link BundleSource sources}. The sources are listed from the highest to
+ * the lowest priority: for each locale, a message in a source overrides the same message in the sources after it. The
+ * sources are merged per locale before the fallback to the parent locales is applied, so a lookup costs the same as
+ * with a single source.
+ * <p>
+ * Equal keys and messages in the property files of different locales are shared through a {@link StringPool} while
+ * the catalog is loaded, so a bundle with many similar locales does not hold a copy of each string per locale.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+@Log4j2
+final class Catalog implements LocaleTableProvider {
+    private static final ResourceBundle.Control CONTROL = ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_DEFAULT);
+
+    private final String baseName;
+    private final List<BundleSource> bundleSources;
+    @Getter
+    private final Set<Locale> locales;
+    // The messages defined in the property files of each locale, without the messages of the parent locales.
+    private final Map<Locale, Map<String, String>> sources;
+    private final Map<Locale, LocaleTable> tables;
+    // The estimated heap memory saved by sharing equal strings between the property files.
+    @Getter
+    private final long deduplicatedBytes;
+
+    private Catalog(String baseName, List<BundleSource> bundleSources, Set<Locale> locales, Map<Locale, Map<String, String>> sources,
+                    Map<Locale, LocaleTable> tables, long deduplicatedBytes) {
+        this.baseName = baseName;
+        this.bundleSources = bundleSources;
+        this.locales = Set.copyOf(locales);
+        this.sources = Map.copyOf(sources);
+        this.tables = Map.copyOf(tables);
+        this.deduplicatedBytes = deduplicatedBytes;
+    }
+
+    /**
+     * Loads all property files of the bundle in the directory.
+     *
+     * @param baseName  The base name of the bundle.
+     * @param directory The directory holding the property files.
+     *
+     * @return The loaded catalog.
+     *
+     * @throws IOException if a property file cannot be read.
+     * @since 1.0.0
+     */
+    static Catalog load(@NotNull String baseName, @NotNull File directory) throws IOException {
+        return load(baseName, List.of(BundleSource.directory(directory)));
+    }
+
+    /**
+     * Loads and merges all property files of the bundle in the sources.
+     *
+     * @param baseName      The base name of the bundle.
+     * @param bundleSources The sources holding the property files, from the highest to the lowest priority.
+     *
+     * @return The loaded catalog.
+     *
+     * @throws IOException           if a source cannot be opened or a property file cannot be read.
+     * @throws IllegalStateException if none of the sources holds a property file of the bundle.
+     * @since 1.0.0
+     */
+    static Catalog load(@NotNull String baseName, @NotNull List<BundleSource> bundleSources) throws IOException {
+        return read(baseName, List.copyOf(bundleSources), null, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the property files that changed are read again. Tables of locales whose fallback chain does not include a
+     * changed file are carried over, including their compiled message definitions.
+     */
+    @Override
+    public Catalog reload(@Nullable Collection<Path> changedFiles) throws IOException {
+        return read(baseName, bundleSources, changedFiles == null ? null : this, changedFiles);
+    }
+
+    private static Catalog read(String baseName, List<BundleSource> bundleSources, @Nullable Catalog previous,
+                                @Nullable Collection<Path> changedFiles) throws IOException {
+        List<BundleSource.Location> locations = open(bundleSources);
+        try {
+            Set<Locale> newLocales = findLocales(baseName, bundleSources, locations);
+
+            Map<Locale, Map<String, String>> newSources = new HashMap<>();
+            Map<Locale, Map<String, String>> readSources = new HashMap<>();
+            Set<Locale> changedLocales = new HashSet<>();
+            if (previous != null) {
+                changedLocales.addAll(previous.locales);
+                changedLocales.removeAll(newLocales);
+            }
+            for (Locale locale : newLocales) {
+                String fileName = fileNameOf(baseName, locale);
+                if (previous == null || !previous.locales.contains(locale) || changedFiles.contains(Path.of(fileName))) {
+                    Map<String, String> messages = merge(locations, fileName);
+                    if (messages != null) {
+                        readSources.put(locale, messages);
+                    }
+                    changedLocales.add(locale);
+                } else if (previous.sources.containsKey(locale)) {
+                    newSources.put(locale, previous.sources.get(locale));
+                }
+            }
+
+            // The carried over messages are already canonical; pool them first so they keep their instances.
+            StringPool pool = new StringPool();
+            newSources.replaceAll((locale, messages) -> pool.canonicalize(messages));
+            readSources.forEach((locale, messages) -> newSources.put(locale, pool.canonicalize(messages)));
+            LOGGER.debug("Loaded bundle '{}': {} distinct strings, {} bytes saved by sharing equal strings", baseName, pool.size(),
+                    pool.getSavedBytes());
+
+            Map<Locale, LocaleTable> previousTables = previous == null ? Map.of() : previous.tables;
+            return new Catalog(baseName, bundleSources, newLocales, newSources,
+                    buildTables(baseName, newLocales, newSources, previousTables, changedLocales), pool.getSavedBytes());
+        } finally {
+            close(locations);
+        }
+    }
+
+    /**
+     * Opens the sources of a bundle.
+     *
+     * @param bundleSources The sources.
+     *
+     * @return The locations of the sources, in the same order, to be closed with {@link #close(List)}.
+     *
+     * @throws IOException if a source cannot be opened.
+     * @since 1.0.0
+     */
+    static List<BundleSource.Location> open(List<BundleSource> bundleSources) throws IOException {
+        List<BundleSource.Location> locations = new ArrayList<>();
+        try {
+            for (BundleSource bundleSource : bundleSources) {
+                locations.add(bundleSource.open());
+            }
+        } catch (IOException | RuntimeException e) {
+            close(locations);
+            throw e;
+        }
+        return locations;
+    }
+
+    /**
+     * Closes the locations of opened sources.
+     *
+     * @param locations The locations.
+     *
+     * @throws IOException if a location cannot be closed.
+     * @since 1.0.0
+     */
+    static void close(List<BundleSource.Location> locations) throws IOException {
+        for (BundleSource.Location location : locations) {
+            location.close();
+        }
+    }
+
+    /**
+     * Finds the locales for which any of the sources holds a property file.
+     *
+     * @param baseName      The base name of the bundle.
+     * @param bundleSources The sources, for reporting.
+     * @param locations     The opened sources.
+     *
+     * @return The available locales.
+     *
+     * @throws IllegalStateException if none of the sources holds a property file of the bundle.
+     * @since 1.0.0
+     */
+    static Set<Locale> findLocales(String baseName, List<BundleSource> bundleSources, List<BundleSource.Location> locations) {
+        Set<Locale> locales = new HashSet<>();
+        for (BundleSource.Location location : locations) {
+            locales.addAll(LocalesLoader.findLocales(baseName, location.directory(), false));
+        }
+        if (locales.isEmpty()) {
+            throw new IllegalStateException("No files in " + bundleSources.stream()
+                    .map(BundleSource::getDescription).collect(Collectors.joining(", ")));
+        }
+        return locales;
+    }
+
+    /**
+     * Returns the locales whose messages a table for the locale holds, from the most specific locale to the root
+     * locale.
+     *
+     * @param baseName The base name of the bundle.
+     * @param locale   The locale of the table.
+     *
+     * @return The fallback chain of the locale.
+     *
+     * @since 1.0.0
+     */
+    static List<Locale> fallbackChain(String baseName, Locale locale) {
+        return CONTROL.getCandidateLocales(baseName, locale);
+    }
+
+    /**
+     * Returns the name of the property file of a locale.
+     *
+     * @param baseName The base name of the bundle.
+     * @param locale   The locale.
+     *
+     * @return The file name.
+     *
+     * @since 1.0.0
+     */
+    static String fileNameOf(String baseName, Locale locale) {
+        return CONTROL.toBundleName(baseName, locale) + ".properties";
+    }
+
+    /**
+     * Reads and merges the property file with the given name in all sources.
+     *
+     * @param locations The opened sources, from the highest to the lowest priority.
+     * @param fileName  The name of the property file.
+     *
+     * @return The merged messages, or {@literal <null>} if none of the sources holds the file.
+     *
+     * @throws IOException if a property file cannot be read.
+     * @since 1.0.0
+     */
+    static @Nullable Map<String, String> merge(List<BundleSource.Location> locations, String fileName) throws IOException {
+        Map<String, String> merged = null;
+        // Read from the lowest to the highest priority, so messages of higher priority sources overwrite.
+        for (int i = locations.size() - 1; i >= 0; i--) {
+            Map<String, String> messages = parse(locations.get(i).directory().resolve(fileName));
+            if (messages != null) {
+                if (merged == null) {
+                    merged = messages;
+                } else {
+                    merged = new HashMap<>(merged);
+                    merged.putAll(messages);
+                }
+            }
+        }
+        return merged == null ? null : Map.copyOf(merged);
+    }
+
+    @Override
+    public @Nullable LocaleTable getTable(@NotNull Locale locale) {
+        return tables.get(locale);
+    }
+
+    /**
+     * Returns the tables of all available locales and of the root locale.
+     *
+     * @return The tables.
+     *
+     * @since 1.0.0
+     */
+    Collection<LocaleTable> getTables() {
+        return tables.values();
+    }
+
+    private static Map<Locale, LocaleTable> buildTables(String baseName, Set<Locale> locales, Map<Locale, Map<String, String>> sources,
+                                                        Map<Locale, LocaleTable> previousTables, Set<Locale> changedLocales) {
+        Set<Locale> tableLocales = new HashSet<>(locales);
+        tableLocales.add(Locale.ROOT);
+
+        Map<Locale, LocaleTable> tables = new HashMap<>();
+        for (Locale locale : tableLocales) {
+            List<Locale> chain = fallbackChain(baseName, locale);
+            LocaleTable previous = previousTables.get(locale);
+            if (previous != null && chain.stream().noneMatch(changedLocales::contains)) {
+                tables.put(locale, previous);
+            } else {
+                tables.put(locale, flatten(baseName, locale, chain, sources));
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * Creates the table of a locale, applying the fallback to the parent locales.
+     *
+     * @param baseName The base name of the bundle.
+     * @param locale   The locale of the table.
+     * @param chain    The fallback chain of the locale.
+     * @param sources  The messages of the property file of each locale.
+     *
+     * @return The table.
+     *
+     * @since 1.0.0
+     */
+    static LocaleTable flatten(String baseName, Locale locale, List<Locale> chain, Map<Locale, Map<String, String>> sources) {
+        Map<String, String> messages = new HashMap<>();
+        // The chain runs from the most specific locale to the root locale; more specific messages overwrite.
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            Map<String, String> source = sources.get(chain.get(i));
+            if (source != null) {
+                messages.putAll(source);
+            }
+        }
+        return new LocaleTable(baseName, locale, messages);
+    }
+
+    private static @Nullable Map<String, String> parse(Path file) throws IOException {
+        try {
+            return PropertiesParser.parse(file);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+}
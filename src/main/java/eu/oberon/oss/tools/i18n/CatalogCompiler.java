@@ -0,0 +1,280 @@
+package eu.oberon.oss.tools.i18n;
+
+import eu.oberon.oss.tools.i18n.formatter.MessageDefinition;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Compiles the property files of a message bundle directory into a single, indexed catalog file, that can be served by
+ * a {@link MappedMessageBundleResolver}.
+ * <p>
+ * The catalog holds the flattened messages of each locale, with the fallback to the parent locales already applied,
+ * so the resolver needs neither the property files nor the fallback rules at runtime. All integers are stored big
+ * endian and all references are absolute offsets in the file. The file consists of:
+ * <ul>
+ *     <li>a header: the magic number, the format version, a reference to the base name, the number of locales, the
+ *     number of keys and the capacity of the key hash table;</li>
+ *     <li>a locale entry per locale: a reference to the language tag, the flags and the offset of the values of the
+ *     locale;</li>
+ *     <li>the key hash table: per slot the index of a key, or -1 for an empty slot, using linear probing;</li>
+ *     <li>a key entry per key: the {@link String#hashCode()} of the key and a reference to the key;</li>
+ *     <li>the values of each locale: per key a reference to the value, or -1 if the key is not available;</li>
+ *     <li>the string table: per string its length in bytes, its format type and replacement count, followed by the
+ *     UTF-8 encoded string. Identical strings are stored once, also across locales.</li>
+ * </ul>
+ * The format type of each value is determined when the catalog is compiled, so the resolver does not have to analyze
+ * the format strings again.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+@Log4j2
+public final class CatalogCompiler {
+    static final int MAGIC = 0x4931384E;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 24;
+    static final int LOCALE_ENTRY_SIZE = 12;
+    static final int KEY_ENTRY_SIZE = 8;
+    static final int STRING_HEADER_SIZE = 9;
+    static final int FLAG_AVAILABLE = 1;
+    static final byte NO_FORMAT_TYPE = -1;
+    static final int NOT_FOUND = -1;
+
+    private CatalogCompiler() {
+    }
+
+    /**
+     * Compiles a message bundle directory into a catalog file. The catalog is written to a temporary file first and
+     * then moved into place, so resolvers that have mapped an earlier version of the file keep reading that version.
+     *
+     * @param baseName  The base name of the bundle.
+     * @param directory The directory holding the property files.
+     * @param target    The catalog file to write.
+     *
+     * @throws IOException              if a property file cannot be read or the catalog cannot be written.
+     * @throws IllegalArgumentException if the specified directory does not exist or is not a directory.
+     * @since 1.0.0
+     */
+    public static void compile(@NotNull String baseName, @NotNull File directory, @NotNull Path target) throws IOException {
+        if (!directory.isDirectory()) {
+            throw new IllegalArgumentException("'" + directory + "' is not a directory");
+        }
+
+        write(baseName, Catalog.load(baseName, directory), target);
+    }
+
+    /**
+     * Compiles the merged property files of a message bundle in several sources into a catalog file, see
+     * {@link #compile(String, File, Path)}.
+     *
+     * @param baseName      The base name of the bundle.
+     * @param bundleSources The sources holding the property files, from the highest to the lowest priority.
+     * @param target        The catalog file to write.
+     *
+     * @throws IOException           if a source or property file cannot be read or the catalog cannot be written.
+     * @throws IllegalStateException if none of the sources holds a property file of the bundle.
+     * @since 1.0.0
+     */
+    public static void compile(@NotNull String baseName, @NotNull List<BundleSource> bundleSources, @NotNull Path target) throws IOException {
+        write(baseName, Catalog.load(baseName, bundleSources), target);
+    }
+
+    private static void write(String baseName, Catalog source, Path target) throws IOException {
+        ByteBuffer catalog = encode(baseName, source);
+
+        Path absoluteTarget = target.toAbsolutePath();
+        Path temporary = Files.createTempFile(absoluteTarget.getParent(), absoluteTarget.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (catalog.hasRemaining()) {
+                    channel.write(catalog);
+                }
+            }
+            Files.move(temporary, absoluteTarget, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        LOGGER.info("Compiled bundle '{}' into '{}'", baseName, target);
+    }
+
+    /**
+     * Command line entry point, taking the base name, the bundle directory and the catalog file as arguments.
+     *
+     * @param args The command line arguments.
+     *
+     * @throws IOException              if a property file cannot be read or the catalog cannot be written.
+     * @throws IllegalArgumentException if the number of arguments is not three.
+     * @since 1.0.0
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: CatalogCompiler <baseName> <directory> <catalogFile>");
+        }
+        compile(args[0], new File(args[1]), Path.of(args[2]));
+    }
+
+    /**
+     * Encodes a loaded bundle in the catalog format.
+     *
+     * @param baseName The base name of the bundle.
+     * @param catalog  The loaded bundle.
+     *
+     * @return A heap buffer holding the catalog, positioned at its start.
+     *
+     * @since 1.0.0
+     */
+    static ByteBuffer encode(String baseName, Catalog catalog) {
+        List<LocaleTable> tables = new ArrayList<>(catalog.getTables());
+        tables.sort(Comparator.comparing(table -> table.getLocale().toLanguageTag()));
+
+        TreeSet<String> keySet = new TreeSet<>();
+        tables.forEach(table -> keySet.addAll(table.getMessages().keySet()));
+        List<String> keys = new ArrayList<>(keySet);
+
+        int hashCapacity = Integer.highestOneBit(Math.max(keys.size(), 1) * 2 - 1) << 1;
+        int localesOffset = HEADER_SIZE;
+        int hashOffset = localesOffset + tables.size() * LOCALE_ENTRY_SIZE;
+        int keysOffset = hashOffset + hashCapacity * 4;
+        int valuesOffset = keysOffset + keys.size() * KEY_ENTRY_SIZE;
+        StringTable strings = new StringTable(valuesOffset + tables.size() * keys.size() * 4);
+
+        int[] keyReferences = new int[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            keyReferences[i] = strings.add(keys.get(i), false);
+        }
+        int[][] valueReferences = new int[tables.size()][keys.size()];
+        int[] tagReferences = new int[tables.size()];
+        for (int t = 0; t < tables.size(); t++) {
+            Map<String, String> messages = tables.get(t).getMessages();
+            tagReferences[t] = strings.add(tables.get(t).getLocale().toLanguageTag(), false);
+            for (int k = 0; k < keys.size(); k++) {
+                String value = messages.get(keys.get(k));
+                valueReferences[t][k] = value == null ? NOT_FOUND : strings.add(value, true);
+            }
+        }
+        int baseNameReference = strings.add(baseName, false);
+
+        ByteBuffer buffer = ByteBuffer.allocate(strings.end());
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(baseNameReference)
+                .putInt(tables.size()).putInt(keys.size()).putInt(hashCapacity);
+
+        for (int t = 0; t < tables.size(); t++) {
+            boolean available = catalog.getLocales().contains(tables.get(t).getLocale());
+            buffer.putInt(tagReferences[t])
+                    .putInt(available ? FLAG_AVAILABLE : 0)
+                    .putInt(valuesOffset + t * keys.size() * 4);
+        }
+
+        int[] slots = new int[hashCapacity];
+        Arrays.fill(slots, NOT_FOUND);
+        for (int k = 0; k < keys.size(); k++) {
+            int slot = spread(keys.get(k).hashCode()) & (hashCapacity - 1);
+            while (slots[slot] != NOT_FOUND) {
+                slot = (slot + 1) & (hashCapacity - 1);
+            }
+            slots[slot] = k;
+        }
+        for (int slot : slots) {
+            buffer.putInt(slot);
+        }
+
+        for (int k = 0; k < keys.size(); k++) {
+            buffer.putInt(keys.get(k).hashCode()).putInt(keyReferences[k]);
+        }
+
+        for (int[] references : valueReferences) {
+            for (int reference : references) {
+                buffer.putInt(reference);
+            }
+        }
+
+        buffer.put(strings.toByteArray());
+        return buffer.flip();
+    }
+
+    /**
+     * Spreads the higher bits of a hash code over the lower bits used to select a hash table slot.
+     *
+     * @param hash The hash code.
+     *
+     * @return The spread hash code.
+     *
+     * @since 1.0.0
+     */
+    static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * The string table being written, storing each distinct string once.
+     */
+    private static final class StringTable {
+        private final int start;
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final Map<String, Integer> messageReferences = new HashMap<>();
+        private final Map<String, Integer> plainReferences = new HashMap<>();
+
+        private StringTable(int start) {
+            this.start = start;
+        }
+
+        private int add(String string, boolean isMessage) {
+            // A message must carry its format type, a plain string (key, language tag) may reuse a message entry.
+            Integer reference = messageReferences.get(string);
+            if (reference == null && !isMessage) {
+                reference = plainReferences.get(string);
+            }
+            if (reference == null) {
+                reference = start + bytes.size();
+                write(string, isMessage);
+                (isMessage ? messageReferences : plainReferences).put(string, reference);
+            }
+            return reference;
+        }
+
+        private void write(String string, boolean isMessage) {
+            byte formatType = NO_FORMAT_TYPE;
+            int replacementCount = 0;
+            if (isMessage) {
+                try {
+                    MessageDefinition definition = new MessageDefinition(string);
+                    formatType = (byte) definition.getFormatStringType().ordinal();
+                    replacementCount = definition.getReplacementCount();
+                } catch (IllegalArgumentException e) {
+                    // Ambiguous format strings are stored without a format type; they are rejected when used.
+                    LOGGER.warn("Message '{}' is an ambiguous format string", string);
+                }
+            }
+            byte[] encoded = string.getBytes(StandardCharsets.UTF_8);
+            bytes.writeBytes(ByteBuffer.allocate(STRING_HEADER_SIZE)
+                    .putInt(encoded.length).put(formatType).putInt(replacementCount).array());
+            bytes.writeBytes(encoded);
+        }
+
+        private int end() {
+            return start + bytes.size();
+        }
+
+        private byte[] toByteArray() {
+            return bytes.toByteArray();
+        }
+    }
+}
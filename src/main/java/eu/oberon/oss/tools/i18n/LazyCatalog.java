@@ -0,0 +1,205 @@
+package eu.oberon.oss.tools.i18n;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Provides the tables of a message bundle on demand. Only the available locales are determined up front, from the
+ * names of the property files; the table of a locale is loaded when it is first requested.
+ * <p>
+ * Loaded tables are kept within a memory budget, based on the {@link LocaleTable#getEstimatedSize() estimated size} of
+ * each table. When loading a table exceeds the budget, the least recently used tables are evicted, and loaded again
+ * when they are requested later. The most recently loaded table is always kept, even if it exceeds the budget on its
+ * own. Concurrent requests for a table that is not loaded yet load it once; the other requests wait for that load.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+@Log4j2
+final class LazyCatalog implements LocaleTableProvider {
+    private final String baseName;
+    private final List<BundleSource> bundleSources;
+    @Getter
+    private final Set<Locale> locales;
+    private final Set<Locale> tableLocales;
+    private final long memoryBudget;
+
+    // Guarded by this; iterates from the least to the most recently used table.
+    private final LinkedHashMap<Locale, LocaleTable> loadedTables = new LinkedHashMap<>(16, 0.75f, true);
+    private long loadedSize;
+    private final Map<Locale, CompletableFuture<LocaleTable>> loadsInProgress = new ConcurrentHashMap<>();
+    private final AtomicLong loadCount = new AtomicLong();
+
+    private LazyCatalog(String baseName, List<BundleSource> bundleSources, Set<Locale> locales, long memoryBudget) {
+        this.baseName = baseName;
+        this.bundleSources = bundleSources;
+        this.locales = Set.copyOf(locales);
+        Set<Locale> withRoot = new HashSet<>(locales);
+        withRoot.add(Locale.ROOT);
+        this.tableLocales = Set.copyOf(withRoot);
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Determines the available locales of the bundle, without loading any table.
+     *
+     * @param baseName      The base name of the bundle.
+     * @param bundleSources The sources holding the property files, from the highest to the lowest priority.
+     * @param memoryBudget  The memory budget for the loaded tables, in bytes.
+     *
+     * @return The catalog.
+     *
+     * @throws IOException           if a source cannot be opened.
+     * @throws IllegalStateException if none of the sources holds a property file of the bundle.
+     * @since 1.0.0
+     */
+    static LazyCatalog create(@NotNull String baseName, @NotNull List<BundleSource> bundleSources, long memoryBudget) throws IOException {
+        List<BundleSource.Location> locations = Catalog.open(bundleSources);
+        try {
+            return new LazyCatalog(baseName, List.copyOf(bundleSources), Catalog.findLocales(baseName, bundleSources, locations), memoryBudget);
+        } finally {
+            Catalog.close(locations);
+        }
+    }
+
+    @Override
+    public @Nullable LocaleTable getTable(@NotNull Locale locale) {
+        if (!tableLocales.contains(locale)) {
+            return null;
+        }
+        LocaleTable table = getLoadedTable(locale);
+        if (table != null) {
+            return table;
+        }
+
+        CompletableFuture<LocaleTable> load = new CompletableFuture<>();
+        CompletableFuture<LocaleTable> otherLoad = loadsInProgress.putIfAbsent(locale, load);
+        if (otherLoad != null) {
+            return await(otherLoad);
+        }
+        try {
+            // Another thread may have finished loading the table since it was looked up.
+            table = getLoadedTable(locale);
+            if (table == null) {
+                table = load(locale);
+                store(table);
+            }
+            load.complete(table);
+            return table;
+        } catch (IOException e) {
+            load.completeExceptionally(e);
+            throw new UncheckedIOException("Failed to load locale '" + locale + "' of bundle '" + baseName + "'", e);
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadsInProgress.remove(locale, load);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The available locales are determined again and all loaded tables are dropped.
+     */
+    @Override
+    public LazyCatalog reload(@Nullable Collection<Path> changedFiles) throws IOException {
+        return create(baseName, bundleSources, memoryBudget);
+    }
+
+    /**
+     * Returns the locales whose tables are currently loaded.
+     *
+     * @return A snapshot of the loaded locales.
+     *
+     * @since 1.0.0
+     */
+    synchronized Set<Locale> getLoadedLocales() {
+        return Set.copyOf(loadedTables.keySet());
+    }
+
+    /**
+     * Returns the number of tables loaded so far, including tables that were loaded again after being evicted.
+     *
+     * @return The number of loads.
+     *
+     * @since 1.0.0
+     */
+    long getLoadCount() {
+        return loadCount.get();
+    }
+
+    private synchronized @Nullable LocaleTable getLoadedTable(Locale locale) {
+        return loadedTables.get(locale);
+    }
+
+    private synchronized void store(LocaleTable table) {
+        loadedTables.put(table.getLocale(), table);
+        loadedSize += table.getEstimatedSize();
+
+        Iterator<LocaleTable> iterator = loadedTables.values().iterator();
+        while (loadedSize > memoryBudget && loadedTables.size() > 1) {
+            LocaleTable eldest = iterator.next();
+            iterator.remove();
+            loadedSize -= eldest.getEstimatedSize();
+            LOGGER.debug("Evicted locale '{}' of bundle '{}', {} bytes in use", eldest.getLocale(), baseName, loadedSize);
+        }
+    }
+
+    private LocaleTable load(Locale locale) throws IOException {
+        List<Locale> chain = Catalog.fallbackChain(baseName, locale);
+        Map<Locale, Map<String, String>> sources = new HashMap<>();
+        List<BundleSource.Location> locations = Catalog.open(bundleSources);
+        try {
+            for (Locale chainLocale : chain) {
+                if (locales.contains(chainLocale)) {
+                    Map<String, String> messages = Catalog.merge(locations, Catalog.fileNameOf(baseName, chainLocale));
+                    if (messages != null) {
+                        sources.put(chainLocale, messages);
+                    }
+                }
+            }
+        } finally {
+            Catalog.close(locations);
+        }
+        loadCount.incrementAndGet();
+        LocaleTable table = Catalog.flatten(baseName, locale, chain, sources);
+        LOGGER.debug("Loaded locale '{}' of bundle '{}', {} bytes", locale, baseName, table.getEstimatedSize());
+        return table;
+    }
+
+    private static LocaleTable await(CompletableFuture<LocaleTable> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw new UncheckedIOException(ioException);
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package eu.oberon.oss.tools.i18n;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Determines which table of a message bundle serves a requested locale. The candidates are tried from the most to the
+ * least specific, dropping the variant, the region and the script in turn, as {@link java.util.ResourceBundle} does:
+ * {@code sr-Latn-RS-x} tries {@code sr-Latn-RS}, {@code sr-Latn}, {@code sr-RS} and {@code sr}. When no candidate has a
+ * table, the same chain is tried for the configured fallback locale, and finally the root locale is used.
+ * <p>
+ * The result is computed once per requested locale and kept, so resolving a locale that was requested before costs a
+ * single lookup in a concurrent map. A locale that has to be served from the fallback locale is logged once, when it
+ * is first requested. The number of kept locales is bounded; when the bound is reached, the kept locales are dropped
+ * and computed again when they are requested.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+@Log4j2
+final class LocaleFallback {
+    private static final int MAXIMUM_RESOLVED_LOCALES = 1024;
+
+    private final String baseName;
+    private final Set<Locale> tableLocales;
+    @Getter
+    private final Locale fallbackLocale;
+    private final Map<Locale, Locale> resolvedLocales = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the fallback rules for the tables of a bundle.
+     *
+     * @param baseName       The base name of the bundle.
+     * @param tableLocales   The locales that have a table. The root locale always has one.
+     * @param fallbackLocale The locale to use when none of the candidates of a requested locale has a table.
+     *
+     * @since 1.0.0
+     */
+    LocaleFallback(@NotNull String baseName, @NotNull Set<Locale> tableLocales, @NotNull Locale fallbackLocale) {
+        this.baseName = baseName;
+        this.tableLocales = tableLocales;
+        this.fallbackLocale = fallbackLocale;
+    }
+
+    /**
+     * Returns the locale of the table that serves the requested locale.
+     *
+     * @param locale The requested locale.
+     *
+     * @return The locale of the most specific table available for the locale, or for the fallback locale, or the root
+     *         locale.
+     *
+     * @since 1.0.0
+     */
+    Locale resolve(@NotNull Locale locale) {
+        Locale resolved = resolvedLocales.get(locale);
+        if (resolved == null && !locale.equals(Locale.ROOT)) {
+            resolved = findCandidate(locale);
+            boolean fallback = resolved == null;
+            if (fallback) {
+                resolved = findCandidate(fallbackLocale);
+                if (resolved == null) {
+                    resolved = Locale.ROOT;
+                }
+            }
+
+            if (resolvedLocales.size() >= MAXIMUM_RESOLVED_LOCALES) {
+                resolvedLocales.clear();
+            }
+            if (resolvedLocales.putIfAbsent(locale, resolved) == null && fallback) {
+                LOGGER.warn("Locale '{}' is not available, reverted to {}", locale,
+                        resolved.equals(Locale.ROOT) ? "default bundle content" : "locale '" + resolved + "'");
+            }
+        }
+        return resolved == null ? Locale.ROOT : resolved;
+    }
+
+    private @Nullable Locale findCandidate(Locale locale) {
+        List<Locale> candidates = Catalog.fallbackChain(baseName, locale);
+        // The last candidate is the root locale, which is only used when the fallback locale has no table either.
+        for (int i = 0; i < candidates.size() - 1; i++) {
+            if (tableLocales.contains(candidates.get(i))) {
+                return candidates.get(i);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,134 @@
+package eu.oberon.oss.tools.i18n;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Selects the locale to use for a request from an HTTP {@code Accept-Language} header, matching the weighted language
+ * ranges of the header against the available locales of a {@link MessageBundleResolver}.
+ * <p>
+ * The ranges are matched with the lookup scheme of RFC 4647, as implemented by
+ * {@link Locale#lookup(List, java.util.Collection)}: the ranges are tried from the highest to the lowest weight, and a
+ * range that does not match is truncated until it does, so {@code nl-BE} selects {@code nl} if there are no Belgian
+ * messages. A missing or invalid header, or a header none of whose ranges match, selects the
+ * {@link MessageBundleResolver#getFallbackLocale() fallback locale} of the resolver, the same locale the resolver
+ * serves for a locale it does not have.
+ * <p>
+ * Clients send only a few distinct headers, so the selected locale is cached per header. Negotiating the locale for a
+ * header that was seen before costs a single lookup in a concurrent map. The cache holds a bounded number of headers;
+ * when it is full, an arbitrary header is dropped. The cache is cleared when the available locales or the
+ * {@link MessageBundleResolver#getGeneration() generation} of the resolver change, for instance when a watching
+ * resolver is reloaded or its fallback locale is changed. A negotiator can be shared by all threads.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+@Log4j2
+public final class LocaleNegotiator {
+    @Getter
+    private final MessageBundleResolver resolver;
+    @Getter
+    private final int maximumCacheSize;
+
+    private final Map<String, Locale> cache = new ConcurrentHashMap<>();
+    private volatile ResolverState cachedState;
+
+    /**
+     * Creates a negotiator for the resolver.
+     *
+     * @param resolver         The resolver whose available locales are negotiated.
+     * @param maximumCacheSize The maximum number of distinct headers to cache.
+     *
+     * @throws IllegalArgumentException      if the maximum cache size is not positive.
+     * @throws UnsupportedOperationException if the resolver cannot list its available locales.
+     * @since 1.0.0
+     */
+    public LocaleNegotiator(@NotNull MessageBundleResolver resolver, int maximumCacheSize) {
+        if (maximumCacheSize <= 0) {
+            throw new IllegalArgumentException("The maximum cache size must be positive: " + maximumCacheSize);
+        }
+        this.resolver = resolver;
+        this.maximumCacheSize = maximumCacheSize;
+        this.cachedState = new ResolverState(resolver.getAvailableLocales(), resolver.getGeneration());
+    }
+
+    /**
+     * Selects the available locale that best matches an {@code Accept-Language} header, such as
+     * {@code nl-BE,nl;q=0.9,en;q=0.5}.
+     *
+     * @param acceptLanguage The value of the header, or {@literal <null>} if the request has no such header.
+     *
+     * @return The selected locale, or the fallback locale of the resolver if the header is missing or invalid, or none
+     *         of its ranges matches an available locale.
+     *
+     * @since 1.0.0
+     */
+    public Locale negotiate(@Nullable String acceptLanguage) {
+        if (acceptLanguage == null || acceptLanguage.isBlank()) {
+            return resolver.getFallbackLocale();
+        }
+
+        long generation = resolver.getGeneration();
+        Set<Locale> locales = resolver.getAvailableLocales();
+        ResolverState state = cachedState;
+        if (locales != state.locales() || generation != state.generation()) {
+            cache.clear();
+            cachedState = new ResolverState(locales, generation);
+        }
+
+        Locale locale = cache.get(acceptLanguage);
+        if (locale == null) {
+            locale = match(acceptLanguage, locales);
+            store(acceptLanguage, locale);
+        }
+        return locale;
+    }
+
+    /**
+     * Returns the number of headers in the cache.
+     *
+     * @return The cache size.
+     *
+     * @since 1.0.0
+     */
+    int getCacheSize() {
+        return cache.size();
+    }
+
+    private void store(String acceptLanguage, Locale locale) {
+        // Make room first, so the cache exceeds its bound by at most the number of threads storing concurrently.
+        Iterator<String> iterator = cache.keySet().iterator();
+        while (cache.size() >= maximumCacheSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        cache.put(acceptLanguage, locale);
+    }
+
+    private Locale match(String acceptLanguage, Set<Locale> locales) {
+        List<Locale.LanguageRange> ranges;
+        try {
+            ranges = Locale.LanguageRange.parse(acceptLanguage);
+        } catch (IllegalArgumentException e) {
+            LOGGER.debug("Invalid Accept-Language header '{}', using the fallback locale", acceptLanguage, e);
+            return resolver.getFallbackLocale();
+        }
+        Locale locale = Locale.lookup(ranges, locales);
+        return locale == null ? resolver.getFallbackLocale() : locale;
+    }
+
+    /**
+     * The available locales and the generation of the resolver the cached locales were selected for.
+     */
+    private record ResolverState(Set<Locale> locales, long generation) {
+    }
+}
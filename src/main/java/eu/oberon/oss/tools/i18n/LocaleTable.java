@@ -0,0 +1,117 @@
+package eu.oberon.oss.tools.i18n;
+
+import eu.oberon.oss.tools.i18n.formatter.MessageDefinition;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The messages available for a single locale of a message bundle. The table is flattened: it holds the messages of
+ * the locale's own bundle and of all its parent bundles, with the fallback already applied, so a lookup is a single
+ * hash probe regardless of the depth of the parent chain. The messages of a table are never modified after it is
+ * created, so it can be read by any number of threads without synchronization. The message definitions are compiled
+ * on first use and kept with the table.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+final class LocaleTable {
+    // Rough per-object costs: the table and its maps, and per message two strings, their arrays and a map slot.
+    private static final long TABLE_OVERHEAD = 256;
+    private static final long ENTRY_OVERHEAD = 112;
+
+    private final String baseName;
+    private final Locale locale;
+    private final Map<String, String> messages;
+    private final Map<String, MessageDefinition> definitions = new ConcurrentHashMap<>();
+    private final long estimatedSize;
+
+    LocaleTable(@NotNull String baseName, @NotNull Locale locale, @NotNull Map<String, String> messages) {
+        this.baseName = baseName;
+        this.locale = locale;
+        this.messages = Map.copyOf(messages);
+
+        long size = TABLE_OVERHEAD;
+        for (Map.Entry<String, String> message : this.messages.entrySet()) {
+            size += ENTRY_OVERHEAD + 2L * (message.getKey().length() + message.getValue().length());
+        }
+        this.estimatedSize = size;
+    }
+
+    /**
+     * Returns an estimate of the heap memory used by the messages of the table, assuming two bytes per character.
+     * Compiled message definitions are not included.
+     *
+     * @return The estimated size in bytes.
+     *
+     * @since 1.0.0
+     */
+    long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    /**
+     * Returns the locale of the messages in the table.
+     *
+     * @return The locale.
+     *
+     * @since 1.0.0
+     */
+    Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Returns all messages of the table.
+     *
+     * @return An immutable map holding the messages, by key.
+     *
+     * @since 1.0.0
+     */
+    Map<String, String> getMessages() {
+        return messages;
+    }
+
+    /**
+     * Returns the message for the key.
+     *
+     * @param key The key to look for.
+     *
+     * @return The message associated with the key.
+     *
+     * @throws MissingResourceException if the key was not found.
+     * @since 1.0.0
+     */
+    String getString(@NotNull String key) {
+        String message = messages.get(key);
+        if (message == null) {
+            throw new MissingResourceException("Can't find resource for bundle " + baseName + "_" + locale + ", key " + key,
+                    baseName + "_" + locale, key);
+        }
+        return message;
+    }
+
+    /**
+     * Returns the compiled message definition for the key. The definition is created on first use and cached, so
+     * later calls for the same key cost a single lookup. The table is the cache: definitions are not taken from
+     * {@link MessageDefinition#of(String)}, whose bounded cache would be flushed over and over by large bundles.
+     *
+     * @param key The key to look for.
+     *
+     * @return The message definition of the message associated with the key.
+     *
+     * @throws MissingResourceException if the key was not found.
+     * @throws IllegalArgumentException if the message is an ambiguous format string.
+     * @since 1.0.0
+     */
+    MessageDefinition getMessageDefinition(@NotNull String key) {
+        MessageDefinition definition = definitions.get(key);
+        if (definition == null) {
+            definition = definitions.computeIfAbsent(key, k -> new MessageDefinition(getString(k)));
+        }
+        return definition;
+    }
+}
@@ -0,0 +1,51 @@
+package eu.oberon.oss.tools.i18n;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Provides the {@link LocaleTable flattened tables} of the locales of a message bundle to a resolver.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+interface LocaleTableProvider {
+    /**
+     * Returns the locales for which the bundle has a property file.
+     *
+     * @return The available locales.
+     *
+     * @since 1.0.0
+     */
+    Set<Locale> getLocales();
+
+    /**
+     * Returns the table for the locale, if the locale is available. The table of the root locale is always available.
+     *
+     * @param locale The requested locale.
+     *
+     * @return The table, or {@literal <null>} if the locale is not available.
+     *
+     * @since 1.0.0
+     */
+    @Nullable LocaleTable getTable(@NotNull Locale locale);
+
+    /**
+     * Creates a new provider for the current content of the property files.
+     *
+     * @param changedFiles The names of the files that were created, modified or deleted, or {@literal <null>} to re-read
+     *                     all files.
+     *
+     * @return The new provider.
+     *
+     * @throws IOException if a property file cannot be read.
+     * @since 1.0.0
+     */
+    LocaleTableProvider reload(@Nullable Collection<Path> changedFiles) throws IOException;
+}
@@ -0,0 +1,330 @@
+package eu.oberon.oss.tools.i18n;
+
+import eu.oberon.oss.tools.i18n.formatter.FormatStringType;
+import eu.oberon.oss.tools.i18n.formatter.MessageDefinition;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static eu.oberon.oss.tools.i18n.CatalogCompiler.*;
+
+/**
+ * Implementation of the {@link MessageBundleResolver} interface serving a catalog file written by
+ * {@link CatalogCompiler}.
+ * <p>
+ * The catalog file is memory mapped and lookups are served from the mapped buffer: keys are found through the hash
+ * table in the file and values are decoded from the string table when they are requested. Opening a catalog only
+ * reads the header and the locale entries, regardless of the number of messages, and the messages do not occupy the
+ * heap. Processes mapping the same catalog file share its pages in the page cache.
+ * <p>
+ * A catalog can also be {@link #load(String, List) built from property files} when the resolver is created and held in
+ * direct memory, for very large bundles that are not compiled in advance. The messages then occupy native memory
+ * instead of the heap; only the locale entries and the message definitions in use are kept on the heap, so the heap
+ * use and the garbage collection cost do not grow with the size of the bundle.
+ * <p>
+ * Message definitions are created when they are first requested and shared by all locales using the same value. A
+ * resolver can be shared by all threads; the currently active locale is a convenience for single threaded use.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+@Log4j2
+public class MappedMessageBundleResolver implements MessageBundleResolver {
+    private static final FormatStringType[] FORMAT_STRING_TYPES = FormatStringType.values();
+
+    @Getter
+    private final String baseName;
+
+    // <null> if the catalog was built in direct memory.
+    @Getter
+    private final @Nullable Path catalogFile;
+
+    @Getter
+    private volatile Locale currentActiveLocale;
+
+    private final ByteBuffer buffer;
+    private final Map<Locale, Integer> valueOffsets;
+    private final Set<Locale> availableLocales;
+    private final int keyCount;
+    private final int hashMask;
+    private final int hashOffset;
+    private final int keysOffset;
+    private final Map<Integer, MessageDefinition> definitions = new ConcurrentHashMap<>();
+    private volatile LocaleFallback fallback;
+    private volatile long generation;
+
+    /**
+     * Maps the catalog file.
+     *
+     * @param catalogFile The catalog file, written by {@link CatalogCompiler#compile}.
+     *
+     * @throws IOException for errors accessing the file, or if the file is not a catalog file.
+     * @since 1.0.0
+     */
+    public MappedMessageBundleResolver(@NotNull Path catalogFile) throws IOException {
+        this(map(catalogFile), catalogFile);
+    }
+
+    private MappedMessageBundleResolver(ByteBuffer buffer, @Nullable Path catalogFile) throws IOException {
+        String description = catalogFile == null ? "direct memory" : "'" + catalogFile + "'";
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException(description + " is not a message catalog");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException(description + " has unsupported catalog version " + buffer.getInt(4));
+        }
+
+        this.buffer = buffer;
+        this.catalogFile = catalogFile;
+        this.baseName = readString(buffer.getInt(8));
+        int localeCount = buffer.getInt(12);
+        this.keyCount = buffer.getInt(16);
+        int hashCapacity = buffer.getInt(20);
+        this.hashMask = hashCapacity - 1;
+        this.hashOffset = HEADER_SIZE + localeCount * LOCALE_ENTRY_SIZE;
+        this.keysOffset = hashOffset + hashCapacity * 4;
+
+        Map<Locale, Integer> offsets = new HashMap<>();
+        Set<Locale> available = new HashSet<>();
+        for (int i = 0; i < localeCount; i++) {
+            int entry = HEADER_SIZE + i * LOCALE_ENTRY_SIZE;
+            Locale locale = Locale.forLanguageTag(readString(buffer.getInt(entry)));
+            offsets.put(locale, buffer.getInt(entry + 8));
+            if ((buffer.getInt(entry + 4) & FLAG_AVAILABLE) != 0) {
+                available.add(locale);
+            }
+        }
+        this.valueOffsets = Map.copyOf(offsets);
+        this.availableLocales = Set.copyOf(available);
+        this.fallback = new LocaleFallback(baseName, valueOffsets.keySet(), Locale.ROOT);
+        LOGGER.debug("Mapped catalog {} of bundle '{}': {} locales, {} keys, {} bytes", description, baseName, localeCount, keyCount,
+                buffer.capacity());
+        loadMessageResourceBundleForDefaultLocale();
+    }
+
+    /**
+     * Loads and merges the property files of a bundle into a catalog in direct memory, outside the heap. The catalog is
+     * built on the heap first and copied into direct memory, so loading temporarily needs heap memory for the whole
+     * bundle; once the resolver is created, the messages no longer occupy the heap.
+     *
+     * @param baseName      The basename of the resource bundle.
+     * @param bundleSources The sources to load from, from the highest to the lowest priority, see
+     *                      {@link MessageBundleResolverImpl#MessageBundleResolverImpl(String, List)}.
+     *
+     * @return The resolver.
+     *
+     * @throws IOException              for errors accessing or loading the data.
+     * @throws IllegalArgumentException if no sources are specified.
+     * @throws IllegalStateException    if none of the sources holds a property file of the bundle.
+     * @since 1.0.0
+     */
+    public static MappedMessageBundleResolver load(@NotNull String baseName, @NotNull List<BundleSource> bundleSources) throws IOException {
+        if (bundleSources.isEmpty()) {
+            throw new IllegalArgumentException("No bundle sources specified");
+        }
+        ByteBuffer encoded = CatalogCompiler.encode(baseName, Catalog.load(baseName, bundleSources));
+        ByteBuffer direct = ByteBuffer.allocateDirect(encoded.remaining()).put(encoded).flip();
+        return new MappedMessageBundleResolver(direct.asReadOnlyBuffer(), null);
+    }
+
+    private static ByteBuffer map(Path catalogFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(catalogFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("'" + catalogFile + "' is not a message catalog");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    @Override
+    public void loadDefaultProperties() {
+        loadMessageResourceBundle(Locale.ROOT);
+    }
+
+    @Override
+    public boolean isLocaleAvailable(String languageTag) {
+        return isLocaleAvailable(Locale.forLanguageTag(languageTag));
+    }
+
+    @Override
+    public boolean isLocaleAvailable(Locale locale) {
+        return availableLocales.contains(locale);
+    }
+
+    @Override
+    public Set<Locale> getAvailableLocales() {
+        return availableLocales;
+    }
+
+    @Override
+    public long getGeneration() {
+        return generation;
+    }
+
+    @Override
+    public Locale loadMessageResourceBundleForDefaultLocale() {
+        return loadMessageResourceBundle(Locale.getDefault());
+    }
+
+    @Override
+    public Locale loadMessageResourceBundle(@NotNull String languageTag) {
+        return loadMessageResourceBundle(Locale.forLanguageTag(languageTag));
+    }
+
+    @Override
+    public Locale loadMessageResourceBundle(@NotNull Locale locale) {
+        currentActiveLocale = fallback.resolve(locale);
+        return currentActiveLocale;
+    }
+
+    @Override
+    public Locale getFallbackLocale() {
+        return fallback.getFallbackLocale();
+    }
+
+    /**
+     * Sets the locale whose messages are used for a requested locale for which neither the locale itself nor any of its
+     * less specific forms is in the catalog. If the fallback locale is not in the catalog either, the root locale is
+     * used.
+     *
+     * @param fallbackLocale The fallback locale.
+     *
+     * @since 1.0.0
+     */
+    public synchronized void setFallbackLocale(@NotNull Locale fallbackLocale) {
+        fallback = new LocaleFallback(baseName, valueOffsets.keySet(), fallbackLocale);
+        generation++;
+    }
+
+    @Override
+    public String getString(@NotNull String key) {
+        return getString(currentActiveLocale, key);
+    }
+
+    @Override
+    public String getString(@NotNull Locale locale, @NotNull String key) {
+        return readString(findValue(locale, key));
+    }
+
+    /**
+     * Returns the UTF-8 encoded message for the key, without decoding it, for instance to write a large message to a
+     * channel or stream. The returned buffer is a read-only view of the catalog: reading it does not copy the message.
+     *
+     * @param locale The locale of the message.
+     * @param key    The key to look for.
+     *
+     * @return A read-only buffer holding the encoded message, from its position to its limit.
+     *
+     * @throws MissingResourceException if the key was not found.
+     * @since 1.0.0
+     */
+    public ByteBuffer getEncodedString(@NotNull Locale locale, @NotNull String key) {
+        int reference = findValue(locale, key);
+        int start = reference + STRING_HEADER_SIZE;
+        return buffer.asReadOnlyBuffer().position(start).limit(start + buffer.getInt(reference)).slice();
+    }
+
+    @Override
+    public MessageDefinition getMessageDefinition(@NotNull String key) {
+        return getMessageDefinition(currentActiveLocale, key);
+    }
+
+    @Override
+    public MessageDefinition getMessageDefinition(@NotNull Locale locale, @NotNull String key) {
+        int reference = findValue(locale, key);
+        MessageDefinition definition = definitions.get(reference);
+        if (definition == null) {
+            definition = definitions.computeIfAbsent(reference, this::createDefinition);
+        }
+        return definition;
+    }
+
+    @Override
+    public String getFormattedString(@NotNull Locale locale, @NotNull String key, @Nullable Object... replacementParameters) {
+        return getMessageDefinition(locale, key).createFormattedMessage(replacementParameters);
+    }
+
+    private int findValue(Locale locale, String key) {
+        Locale tableLocale = fallback.resolve(locale);
+        int valuesOffset = valueOffsets.get(tableLocale);
+
+        int keyIndex = findKey(key);
+        int reference = keyIndex == NOT_FOUND ? NOT_FOUND : buffer.getInt(valuesOffset + keyIndex * 4);
+        if (reference == NOT_FOUND) {
+            throw new MissingResourceException("Can't find resource for bundle " + baseName + "_" + tableLocale + ", key " + key,
+                    baseName + "_" + tableLocale, key);
+        }
+        return reference;
+    }
+
+    private int findKey(String key) {
+        int hash = key.hashCode();
+        int slot = spread(hash) & hashMask;
+        for (int probes = 0; probes <= hashMask; probes++) {
+            int keyIndex = buffer.getInt(hashOffset + slot * 4);
+            if (keyIndex == NOT_FOUND) {
+                return NOT_FOUND;
+            }
+            int entry = keysOffset + keyIndex * KEY_ENTRY_SIZE;
+            if (keyIndex < keyCount && buffer.getInt(entry) == hash && matches(buffer.getInt(entry + 4), key)) {
+                return keyIndex;
+            }
+            slot = (slot + 1) & hashMask;
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Compares a string in the string table to a key, without decoding the string if the key is ASCII.
+     */
+    private boolean matches(int reference, String key) {
+        int length = buffer.getInt(reference);
+        // A UTF-8 encoded string never has fewer bytes than characters.
+        if (length < key.length()) {
+            return false;
+        }
+        int start = reference + STRING_HEADER_SIZE;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c >= 0x80) {
+                return readString(reference).equals(key);
+            }
+            if (buffer.get(start + i) != c) {
+                return false;
+            }
+        }
+        return length == key.length();
+    }
+
+    private String readString(int reference) {
+        byte[] bytes = new byte[buffer.getInt(reference)];
+        buffer.get(reference + STRING_HEADER_SIZE, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private MessageDefinition createDefinition(int reference) {
+        byte formatType = buffer.get(reference + 4);
+        String formatString = readString(reference);
+        if (formatType == NO_FORMAT_TYPE) {
+            return new MessageDefinition(formatString);
+        }
+        return new MessageDefinition(formatString, FORMAT_STRING_TYPES[formatType], buffer.getInt(reference + 5));
+    }
+}
@@ -1,9 +1,13 @@
 package eu.oberon.oss.tools.i18n;
 
+import eu.oberon.oss.tools.i18n.formatter.MessageDefinition;
+import eu.oberon.oss.tools.i18n.formatter.MessagesException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Locale;
 import java.util.MissingResourceException;
+import java.util.Set;
 
 /**
  * Contract for classes that act as message bundle resolvers
@@ -12,6 +16,12 @@ import java.util.MissingResourceException;
  * @since 1.0.0
  */
 public interface MessageBundleResolver {
+    /**
+     * The generation returned by resolvers that do not track changes to their messages.
+     *
+     * @since 1.0.0
+     */
+    long UNTRACKED_GENERATION = -1;
 
     /**
      * Loads the default properties for the resource bundle.
@@ -45,6 +55,51 @@ public interface MessageBundleResolver {
      */
     boolean isLocaleAvailable(Locale locale);
 
+    /**
+     * Returns the locales for which the bundle has messages of its own.
+     * <p>
+     * The default implementation throws an {@link UnsupportedOperationException}, as the other methods can only test a
+     * given locale. Both resolvers of this library implement it; a {@link LocaleNegotiator} requires it.
+     *
+     * @return An immutable set holding the available locales. A resolver returns the same instance as long as the
+     *         available locales do not change.
+     *
+     * @throws UnsupportedOperationException if the resolver cannot list its locales.
+     * @since 1.0.0
+     */
+    default Set<Locale> getAvailableLocales() {
+        throw new UnsupportedOperationException(getClass().getName() + " cannot list its available locales");
+    }
+
+    /**
+     * Returns the generation of the messages served by the resolver. The generation changes whenever the messages
+     * served for a locale may change, such as when a watching resolver reloads changed property files or the fallback
+     * locale is changed, so a message definition obtained from the resolver can be kept for as long as the generation
+     * is the same.
+     * <p>
+     * The default implementation returns {@link #UNTRACKED_GENERATION}, for resolvers that do not track changes;
+     * message definitions obtained from such a resolver must not be kept.
+     *
+     * @return The current generation, a non-negative number, or {@link #UNTRACKED_GENERATION}.
+     *
+     * @since 1.0.0
+     */
+    default long getGeneration() {
+        return UNTRACKED_GENERATION;
+    }
+
+    /**
+     * Returns the locale whose messages are used for a requested locale for which neither the locale itself nor any of
+     * its less specific forms is available.
+     *
+     * @return The fallback locale. The default implementation returns {@link Locale#ROOT}.
+     *
+     * @since 1.0.0
+     */
+    default Locale getFallbackLocale() {
+        return Locale.ROOT;
+    }
+
     /**
      * Attempts to load the resource bundle for the default locale that is in effect on the system where the call is
      * being made.
@@ -93,4 +148,78 @@ public interface MessageBundleResolver {
      * @since 1.0.0
      */
     String getString(@NotNull String key);
+
+    /**
+     * Returns the value associated with the specified key, for the specified locale. The locale is resolved the same
+     * way as by {@link #loadMessageResourceBundle(Locale)}, but the currently active locale is neither used nor
+     * changed, so a single resolver can serve requests for different locales concurrently.
+     * <p>
+     * The default implementation throws an {@link UnsupportedOperationException}, as the other methods cannot look up
+     * a locale without changing the currently active locale. Both resolvers of this library implement it.
+     *
+     * @param locale The locale to return the value for.
+     * @param key    The key to look for.
+     *
+     * @return The value associated with the key
+     *
+     * @throws MissingResourceException      if the key was not found in the resource bundle.
+     * @throws UnsupportedOperationException if the resolver does not support locale-explicit lookups.
+     * @since 1.0.0
+     */
+    default String getString(@NotNull Locale locale, @NotNull String key) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support locale-explicit lookups");
+    }
+
+    /**
+     * Returns the compiled message definition of the value associated with the specified key, for the currently
+     * active locale. The default implementation compiles the value returned by {@link #getString(String)}.
+     *
+     * @param key The key to look for.
+     *
+     * @return The message definition.
+     *
+     * @throws MissingResourceException if the key was not found in the resource bundle.
+     * @throws IllegalArgumentException if the value is an ambiguous format string.
+     * @since 1.0.0
+     */
+    default MessageDefinition getMessageDefinition(@NotNull String key) {
+        return MessageDefinition.of(getString(key));
+    }
+
+    /**
+     * Returns the compiled message definition of the value associated with the specified key, for the specified
+     * locale. The definition is compiled once per locale and key, and reused by later calls. The default
+     * implementation compiles the value returned by {@link #getString(Locale, String)}, and only shares the definition
+     * through the bounded cache of {@link MessageDefinition#of(String)}.
+     *
+     * @param locale The locale to return the definition for.
+     * @param key    The key to look for.
+     *
+     * @return The message definition.
+     *
+     * @throws MissingResourceException if the key was not found in the resource bundle.
+     * @throws IllegalArgumentException if the value is an ambiguous format string.
+     * @since 1.0.0
+     */
+    default MessageDefinition getMessageDefinition(@NotNull Locale locale, @NotNull String key) {
+        return MessageDefinition.of(getString(locale, key));
+    }
+
+    /**
+     * Returns the value associated with the specified key for the specified locale, formatted with the replacement
+     * parameters. See {@link #getString(Locale, String)} and {@link MessageDefinition}.
+     *
+     * @param locale                The locale to return the value for.
+     * @param key                   The key to look for.
+     * @param replacementParameters The values to replace the placeholders in the value with.
+     *
+     * @return The formatted value.
+     *
+     * @throws MissingResourceException if the key was not found in the resource bundle.
+     * @throws MessagesException        if the replacement parameters do not match the value.
+     * @since 1.0.0
+     */
+    default String getFormattedString(@NotNull Locale locale, @NotNull String key, @Nullable Object... replacementParameters) {
+        return getMessageDefinition(locale, key).createFormattedMessage(replacementParameters);
+    }
 }
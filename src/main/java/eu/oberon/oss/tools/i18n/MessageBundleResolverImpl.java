@@ -1,42 +1,59 @@
 package eu.oberon.oss.tools.i18n;
 
-import eu.oberon.oss.tools.i18n.loader.LocalesLoader;
+import eu.oberon.oss.tools.i18n.formatter.MessageDefinition;
 import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
-import java.net.URL;
-import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Locale;
-import java.util.ResourceBundle;
 import java.util.Set;
 
 /**
  * Default implementation of the {@link MessageBundleResolver} interface.
+ * <p>
+ * The messages of all available locales are loaded into immutable, flattened tables when the resolver is created,
+ * with the fallback to the parent locales already applied. Lookups for an explicit locale only read those tables, so
+ * a single resolver can be shared by all threads. The currently active locale is a convenience for single threaded
+ * use.
+ * <p>
+ * A requested locale is served by the most specific available locale among its less specific forms, dropping the
+ * variant, the region and the script in turn; if none is available, by the {@link #setFallbackLocale fallback locale}
+ * and finally by the root locale. The table to use is determined once per requested locale, and a locale that is not
+ * available is logged once, when it is first requested.
+ * <p>
+ * The messages can be loaded from a single directory, or merged from several {@link BundleSource sources}, such as
+ * a jar file and a configuration directory.
+ * <p>
+ * In watch mode, the resolver watches the directory and re-reads property files when they change. The new tables are
+ * published at once, when they are complete; lookups in progress keep using the previous tables and never wait for a
+ * reload. A watching resolver must be closed when it is no longer used.
  *
  * @author TigerLilly64
  * @since 1.0.0
  */
 @Log4j2
-public class MessageBundleResolverImpl implements MessageBundleResolver {
-
-    private ResourceBundle resourceBundle;
+public class MessageBundleResolverImpl implements MessageBundleResolver, Closeable {
 
     @Getter
     private final String baseName;
 
+    // <null> if the resolver was created from a list of bundle sources.
     @Getter
-    private final File directory;
+    private final @Nullable File directory;
 
     @Getter
-    private Locale currentActiveLocale;
+    private volatile Locale currentActiveLocale;
 
-    private final URLClassLoader loader;
+    private volatile Tables tables;
 
-    private final Set<Locale> locales;
+    private final @Nullable BundleWatcher watcher;
 
     /**
      * Loads the resource bundle date with the specified base name from the provided directory.
@@ -49,6 +66,23 @@ public class MessageBundleResolverImpl implements MessageBundleResolver {
      *                                  from.
      */
     public MessageBundleResolverImpl(@NotNull String baseName, @NotNull File directory) throws IOException {
+        this(baseName, directory, false);
+    }
+
+    /**
+     * Loads the resource bundle date with the specified base name from the provided directory, optionally watching
+     * the directory for changes.
+     *
+     * @param baseName  The basename of the resource bundle.
+     * @param directory The directory to load from.
+     * @param watch     <b>True</b> to reload changed property files while the resolver is in use.
+     *
+     * @throws IOException              for errors accessing or loading the data, or watching the directory.
+     * @throws IllegalArgumentException if the specified directory does not exist, is not a directory or cannot be read
+     *                                  from.
+     * @since 1.0.0
+     */
+    public MessageBundleResolverImpl(@NotNull String baseName, @NotNull File directory, boolean watch) throws IOException {
         if (!directory.exists()) {
             throw new IllegalArgumentException("'" + directory + "' does not exist");
         }
@@ -61,17 +95,127 @@ public class MessageBundleResolverImpl implements MessageBundleResolver {
             throw new IllegalArgumentException("'" + directory + "' is not readable");
         }
 
-        loader = new URLClassLoader(new URL[]{directory.toURI().toURL()});
-
         this.baseName = baseName;
         this.directory = directory;
-        this.locales = Set.copyOf(LocalesLoader.loadLocales(this.baseName, this.directory));
+        this.tables = new Tables(baseName, Catalog.load(baseName, directory), Locale.ROOT, 0);
+        this.watcher = watch ? new BundleWatcher(directory.toPath(), baseName, this::reload) : null;
         loadMessageResourceBundleForDefaultLocale();
     }
 
+    /**
+     * Loads the resource bundle with the specified base name from several sources, for instance translations shipped
+     * in a jar file with overrides from a configuration directory. The sources are merged into a single set of tables
+     * when the resolver is created, so lookups cost the same as with a single directory.
+     *
+     * @param baseName      The basename of the resource bundle.
+     * @param bundleSources The sources to load from, from the highest to the lowest priority: a message in a source
+     *                      overrides the same message, for the same locale, in the sources after it.
+     *
+     * @throws IOException           for errors accessing or loading the data.
+     * @throws IllegalStateException if none of the sources holds a property file of the bundle.
+     * @since 1.0.0
+     */
+    public MessageBundleResolverImpl(@NotNull String baseName, @NotNull List<BundleSource> bundleSources) throws IOException {
+        this(baseName, Catalog.load(baseName, requireSources(bundleSources)));
+    }
+
+    /**
+     * Creates a resolver that loads the messages of a locale when they are first requested, for bundles with many
+     * locales of which only a few are in use at the same time. Only the available locales are determined when the
+     * resolver is created. The loaded locales are kept within a memory budget: when a locale is loaded and the
+     * budget is exceeded, the least recently used locales are dropped, to be loaded again when they are requested.
+     * Concurrent first requests for a locale load it once.
+     *
+     * @param baseName      The basename of the resource bundle.
+     * @param bundleSources The sources to load from, from the highest to the lowest priority, see
+     *                      {@link #MessageBundleResolverImpl(String, List)}.
+     * @param memoryBudget  The estimated heap memory, in bytes, the loaded messages may use.
+     *
+     * @throws IOException           for errors accessing the sources.
+     * @throws IllegalStateException if none of the sources holds a property file of the bundle.
+     * @since 1.0.0
+     */
+    public MessageBundleResolverImpl(@NotNull String baseName, @NotNull List<BundleSource> bundleSources, long memoryBudget) throws IOException {
+        this(baseName, LazyCatalog.create(baseName, requireSources(bundleSources), memoryBudget));
+    }
+
+    private MessageBundleResolverImpl(String baseName, LocaleTableProvider catalog) {
+        this.baseName = baseName;
+        this.directory = null;
+        this.tables = new Tables(baseName, catalog, Locale.ROOT, 0);
+        this.watcher = null;
+        loadMessageResourceBundleForDefaultLocale();
+    }
+
+    private static List<BundleSource> requireSources(List<BundleSource> bundleSources) {
+        if (bundleSources.isEmpty()) {
+            throw new IllegalArgumentException("No bundle sources specified");
+        }
+        return bundleSources;
+    }
+
+    private synchronized void reload(@Nullable Set<Path> changedFiles) {
+        try {
+            Tables current = tables;
+            tables = new Tables(baseName, current.catalog().reload(changedFiles), current.fallback().getFallbackLocale(), current.generation() + 1);
+            LOGGER.info("Reloaded bundle '{}' from '{}', changed files: {}", baseName, directory, changedFiles == null ? "all" : changedFiles);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Failed to reload bundle '{}' from '{}', keeping the previous messages", baseName, directory, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
     @Override
     public boolean isLocaleAvailable(Locale locale) {
-        return locales.contains(locale);
+        return tables.catalog().getLocales().contains(locale);
+    }
+
+    @Override
+    public Set<Locale> getAvailableLocales() {
+        return tables.catalog().getLocales();
+    }
+
+    @Override
+    public long getGeneration() {
+        return tables.generation();
+    }
+
+    /**
+     * Returns an estimate of the heap memory saved by sharing equal keys and messages between the property files of
+     * the locales, for the messages currently loaded. Resolvers that load their tables on demand do not share strings
+     * between locales and report zero.
+     *
+     * @return The estimated number of bytes saved.
+     *
+     * @since 1.0.0
+     */
+    public long getDeduplicatedBytes() {
+        return tables.catalog() instanceof Catalog catalog ? catalog.getDeduplicatedBytes() : 0;
+    }
+
+    @Override
+    public Locale getFallbackLocale() {
+        return tables.fallback().getFallbackLocale();
+    }
+
+    /**
+     * Sets the locale whose messages are used for a requested locale for which neither the locale itself nor any of its
+     * less specific forms is available, for instance English for a bundle whose root properties only hold technical
+     * defaults. If the fallback locale is not available either, the root locale is used.
+     *
+     * @param fallbackLocale The fallback locale.
+     *
+     * @since 1.0.0
+     */
+    public synchronized void setFallbackLocale(@NotNull Locale fallbackLocale) {
+        Tables current = tables;
+        tables = new Tables(baseName, current.catalog(), fallbackLocale, current.generation() + 1);
     }
 
     @Override
@@ -96,21 +240,47 @@ public class MessageBundleResolverImpl implements MessageBundleResolver {
 
     @Override
     public Locale loadMessageResourceBundle(@NotNull Locale locale) {
-        if (locales.contains(locale)) {
-            resourceBundle = ResourceBundle.getBundle(baseName, locale, loader);
-        } else if (locales.contains(Locale.forLanguageTag(locale.getLanguage()))) {
-            resourceBundle = ResourceBundle.getBundle(baseName, Locale.forLanguageTag(locale.getLanguage()), loader);
-        } else {
-            resourceBundle = ResourceBundle.getBundle(baseName, Locale.ROOT, loader);
-            LOGGER.warn("Locale '{}' is not available, reverted to default bundle content", locale);
-        }
-        currentActiveLocale = resourceBundle.getLocale();
+        currentActiveLocale = tables.fallback().resolve(locale);
         return currentActiveLocale;
     }
 
     @Override
     public String getString(@NotNull String key) {
-        return resourceBundle.getString(key);
+        return getString(currentActiveLocale, key);
+    }
+
+    @Override
+    public String getString(@NotNull Locale locale, @NotNull String key) {
+        return findTable(locale).getString(key);
+    }
+
+    @Override
+    public MessageDefinition getMessageDefinition(@NotNull String key) {
+        return getMessageDefinition(currentActiveLocale, key);
+    }
+
+    @Override
+    public MessageDefinition getMessageDefinition(@NotNull Locale locale, @NotNull String key) {
+        return findTable(locale).getMessageDefinition(key);
     }
 
+    @Override
+    public String getFormattedString(@NotNull Locale locale, @NotNull String key, @Nullable Object... replacementParameters) {
+        return getMessageDefinition(locale, key).createFormattedMessage(replacementParameters);
+    }
+
+    private LocaleTable findTable(Locale locale) {
+        Tables current = tables;
+        return current.catalog().getTable(current.fallback().resolve(locale));
+    }
+
+    /**
+     * The tables of the bundle and the rules to select a table, published together so a reload replaces both at once.
+     * The generation is increased each time they are replaced.
+     */
+    private record Tables(LocaleTableProvider catalog, LocaleFallback fallback, long generation) {
+        private Tables(String baseName, LocaleTableProvider catalog, Locale fallbackLocale, long generation) {
+            this(catalog, new LocaleFallback(baseName, catalog.getLocales(), fallbackLocale), generation);
+        }
+    }
 }
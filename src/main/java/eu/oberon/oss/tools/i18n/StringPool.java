@@ -0,0 +1,94 @@
+package eu.oberon.oss.tools.i18n;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Canonicalizes the keys and messages of a message bundle while it is loaded, so equal strings in the property files
+ * of different locales share a single instance. Most keys occur in every locale, and many messages are repeated
+ * verbatim, such as brand names, untranslated messages and regional variants that copy their language.
+ * <p>
+ * The pool is only used while loading and is not thread safe; the loaded tables keep the canonical instances, not the
+ * pool.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+final class StringPool {
+    // Rough cost of a string apart from its characters: the string object and the header of its array.
+    private static final long STRING_OVERHEAD = 40;
+
+    private final Map<String, String> strings = new HashMap<>();
+    private long referencedBytes;
+    private long retainedBytes;
+
+    /**
+     * Returns the canonical instance of the string.
+     *
+     * @param string The string.
+     *
+     * @return The first instance of an equal string passed to the pool.
+     *
+     * @since 1.0.0
+     */
+    String canonicalize(@NotNull String string) {
+        long size = sizeOf(string);
+        referencedBytes += size;
+        String canonical = strings.putIfAbsent(string, string);
+        if (canonical == null) {
+            retainedBytes += size;
+            return string;
+        }
+        return canonical;
+    }
+
+    /**
+     * Returns the messages with canonical keys and values.
+     *
+     * @param messages The messages.
+     *
+     * @return An immutable map holding the canonical strings, or the same map if it only holds canonical strings.
+     *
+     * @since 1.0.0
+     */
+    Map<String, String> canonicalize(@NotNull Map<String, String> messages) {
+        Map<String, String> canonical = new HashMap<>();
+        boolean changed = false;
+        for (Map.Entry<String, String> message : messages.entrySet()) {
+            String key = canonicalize(message.getKey());
+            String value = canonicalize(message.getValue());
+            changed |= key != message.getKey() || value != message.getValue();
+            canonical.put(key, value);
+        }
+        return changed ? Map.copyOf(canonical) : messages;
+    }
+
+    /**
+     * Returns the number of distinct strings in the pool.
+     *
+     * @return The number of canonical strings.
+     *
+     * @since 1.0.0
+     */
+    int size() {
+        return strings.size();
+    }
+
+    /**
+     * Returns an estimate of the heap memory saved by sharing equal strings: the size of all strings passed to the pool
+     * minus the size of the canonical strings, assuming two bytes per character.
+     *
+     * @return The estimated number of bytes saved.
+     *
+     * @since 1.0.0
+     */
+    long getSavedBytes() {
+        return referencedBytes - retainedBytes;
+    }
+
+    private static long sizeOf(String string) {
+        return STRING_OVERHEAD + 2L * string.length();
+    }
+}
@@ -0,0 +1,90 @@
+package eu.oberon.oss.tools.i18n.accessor;
+
+import eu.oberon.oss.tools.i18n.MessageBundleResolver;
+import eu.oberon.oss.tools.i18n.formatter.MessageDefinition;
+import eu.oberon.oss.tools.i18n.formatter.MessagesException;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Base class of the accessors generated by the {@link MessageBundleProcessor}. An accessor serves the messages of a
+ * single locale; each message has a fixed slot holding its key, the replacement count the generated method passes and
+ * the message definition, so a call does not look up the key once the slot is filled.
+ * <p>
+ * A slot keeps the definition together with the {@link MessageBundleResolver#getGeneration() generation} of the
+ * resolver it was obtained in. When a watching resolver reloads changed property files, its generation changes and
+ * the slots are filled again on their next use, so accessors can be kept for the lifetime of the resolver. Resolvers
+ * that do not track their generation are asked for the definition on every call. A message that does not take the
+ * replacement count of the root message the accessor was generated from is rejected.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+public abstract class MessageAccessor {
+    private final MessageBundleResolver resolver;
+    @Getter
+    private final Locale locale;
+    private final String[] keys;
+    private final int[] replacementCounts;
+    private final AtomicReferenceArray<Slot> slots;
+
+    /**
+     * Creates the accessor.
+     *
+     * @param resolver          The resolver providing the messages.
+     * @param locale            The locale of the messages.
+     * @param keys              The key of each slot.
+     * @param replacementCounts The replacement count of each slot.
+     *
+     * @since 1.0.0
+     */
+    protected MessageAccessor(@NotNull MessageBundleResolver resolver, @NotNull Locale locale, String[] keys, int[] replacementCounts) {
+        this.resolver = resolver;
+        this.locale = locale;
+        this.keys = keys;
+        this.replacementCounts = replacementCounts;
+        this.slots = new AtomicReferenceArray<>(keys.length);
+    }
+
+    /**
+     * Returns the message definition of a slot, obtained from the resolver when the slot is used first or the
+     * generation of the resolver has changed.
+     *
+     * @param slot The slot of the message.
+     *
+     * @return The message definition.
+     *
+     * @throws MissingResourceException if the resolver has no message for the key of the slot.
+     * @throws MessagesException        if the message does not take the expected number of replacement parameters.
+     * @throws IllegalArgumentException if the message is an ambiguous format string.
+     * @since 1.0.0
+     */
+    protected final MessageDefinition definition(int slot) {
+        // Read the generation before the definition, so a definition is never kept with a newer generation.
+        long generation = resolver.getGeneration();
+        Slot cached = slots.get(slot);
+        if (cached != null && cached.generation() == generation) {
+            return cached.definition();
+        }
+
+        MessageDefinition definition = resolver.getMessageDefinition(locale, keys[slot]);
+        if (definition.getReplacementCount() != replacementCounts[slot]) {
+            throw new MessagesException("Message '" + keys[slot] + "' for locale '" + locale + "' expects "
+                    + definition.getReplacementCount() + " replacement parameters, but the accessor passes " + replacementCounts[slot]);
+        }
+        if (generation != MessageBundleResolver.UNTRACKED_GENERATION) {
+            slots.set(slot, new Slot(generation, definition));
+        }
+        return definition;
+    }
+
+    /**
+     * A message definition and the generation of the resolver it was obtained in.
+     */
+    private record Slot(long generation, MessageDefinition definition) {
+    }
+}
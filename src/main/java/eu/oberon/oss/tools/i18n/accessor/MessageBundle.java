@@ -0,0 +1,45 @@
+package eu.oberon.oss.tools.i18n.accessor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requests a typed message accessor for a message bundle. The {@link MessageBundleProcessor} reads the root property
+ * file of the bundle when the annotated type is compiled, and generates a {@link MessageAccessor} with a method per key,
+ * taking exactly the replacement parameters the message expects.
+ * <p>
+ * For a key {@code order.not.found} with the message {@code Order %d was not found}, the accessor gets the methods
+ * {@code String orderNotFound(long argument1)} and {@code String orderNotFound(Object argument1)}; the latter accepts
+ * arguments such as a {@link java.math.BigInteger}. {@code %x} and {@code %o} parameters are always objects, so an
+ * {@code int} renders with the width of an {@code int}, as with {@link String#format(String, Object...)}.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface MessageBundle {
+    /**
+     * The root property file of the bundle. A relative path is looked up in the class output first, where the build
+     * copies the resources to, and then relative to the working directory of the compiler.
+     *
+     * @return The path of the root property file.
+     *
+     * @since 1.0.0
+     */
+    String value();
+
+    /**
+     * The simple name of the generated accessor class, in the package of the annotated type. By default, the name of
+     * the annotated type followed by {@code Accessor}.
+     *
+     * @return The class name, or an empty string for the default name.
+     *
+     * @since 1.0.0
+     */
+    String className() default "";
+}
@@ -0,0 +1,307 @@
+package eu.oberon.oss.tools.i18n.accessor;
+
+import eu.oberon.oss.tools.i18n.formatter.FormatStringType;
+import eu.oberon.oss.tools.i18n.formatter.MessageDefinition;
+import eu.oberon.oss.tools.i18n.loader.PropertiesParser;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+
+/**
+ * Generates the typed message accessors requested with {@link MessageBundle}.
+ * <p>
+ * For each key in the root property file of the bundle, the generated accessor gets a method named after the key, in
+ * camel case, taking a parameter per replacement parameter of the message. Single and paired {@code %d} specifiers
+ * take {@code long} parameters, single {@code %e}, {@code %f}, {@code %g} and {@code %a} specifiers take a
+ * {@code double} and a single {@code %c} takes a {@code char}; all other parameters are objects. A message with
+ * primitive parameters also gets an overload taking objects, for arguments such as a {@link java.math.BigInteger}.
+ * {@code %x} and {@code %o} specifiers take objects only, as their output depends on the type of the argument:
+ * {@code -1} renders as {@code ffffffff} for an {@code int}, but as {@code ffffffffffffffff} for a {@code long}.
+ * Calling a message with the wrong number of parameters therefore fails at compile time.
+ * <p>
+ * Keys that do not map to a valid, unique method name, keys that map to the name of a method inherited from
+ * {@link MessageAccessor} or {@link Object}, such as {@code toString} or {@code getLocale}, and ambiguous format strings
+ * are reported as compile errors on the annotated type.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+@SupportedAnnotationTypes("eu.oberon.oss.tools.i18n.accessor.MessageBundle")
+public class MessageBundleProcessor extends AbstractProcessor {
+    private static final String ACCESSOR_SUFFIX = "Accessor";
+    private static final String INTEGRAL_CONVERSIONS = "d";
+    private static final String FLOATING_CONVERSIONS = "eEfgGaA";
+    private static final String CHARACTER_CONVERSIONS = "cC";
+    private static final Set<String> RESERVED_METHOD_NAMES = reservedMethodNames();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        for (Element element : roundEnvironment.getElementsAnnotatedWith(MessageBundle.class)) {
+            MessageBundle bundle = element.getAnnotation(MessageBundle.class);
+            try {
+                Map<String, String> messages = readMessages(bundle.value());
+                generate((TypeElement) element, bundle, new TreeMap<>(messages));
+            } catch (IOException e) {
+                error(element, "Cannot read message bundle '" + bundle.value() + "': " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private Map<String, String> readMessages(String path) throws IOException {
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject resource = filer.getResource(StandardLocation.CLASS_OUTPUT, "", path);
+            try (InputStream input = resource.openInputStream()) {
+                return PropertiesParser.parse(ByteBuffer.wrap(input.readAllBytes()));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // Not in the class output, read it from the file system instead.
+            return PropertiesParser.parse(Path.of(path));
+        }
+    }
+
+    private void generate(TypeElement element, MessageBundle bundle, TreeMap<String, String> messages) throws IOException {
+        String packageName = getPackageName(element);
+        String className = bundle.className().isEmpty() ? element.getSimpleName() + ACCESSOR_SUFFIX : bundle.className();
+
+        List<Accessor> accessors = new ArrayList<>();
+        Set<String> methodNames = new HashSet<>();
+        boolean valid = true;
+        for (Map.Entry<String, String> message : messages.entrySet()) {
+            String methodName = toMethodName(message.getKey());
+            if (RESERVED_METHOD_NAMES.contains(methodName)) {
+                error(element, "Key '" + message.getKey() + "' maps to the reserved method name '" + methodName + "'");
+                valid = false;
+                continue;
+            }
+            if (!SourceVersion.isName(methodName) || !methodNames.add(methodName)) {
+                error(element, "Key '" + message.getKey() + "' does not map to a valid, unique method name ('" + methodName + "')");
+                valid = false;
+                continue;
+            }
+            try {
+                MessageDefinition definition = new MessageDefinition(message.getValue());
+                accessors.add(new Accessor(message.getKey(), message.getValue(), methodName, parameterTypes(definition)));
+            } catch (IllegalArgumentException e) {
+                error(element, "Message '" + message.getKey() + "': " + e.getMessage());
+                valid = false;
+            }
+        }
+        if (!valid) {
+            return;
+        }
+
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, element).openWriter()) {
+            writer.write(render(packageName, className, element.getQualifiedName().toString(), accessors));
+        }
+    }
+
+    private String render(String packageName, String className, String annotatedType, List<Accessor> accessors) {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import eu.oberon.oss.tools.i18n.MessageBundleResolver;\n")
+                .append("import eu.oberon.oss.tools.i18n.accessor.MessageAccessor;\n\n")
+                .append("import java.util.Locale;\n\n")
+                .append("/**\n * Typed accessor for the messages of {@link ").append(annotatedType).append("}.\n */\n")
+                .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("public final class ").append(className).append(" extends MessageAccessor {\n");
+
+        source.append("    private static final String[] KEYS = {");
+        appendList(source, accessors, accessor -> javaString(accessor.key()));
+        source.append("};\n    private static final int[] REPLACEMENT_COUNTS = {");
+        appendList(source, accessors, accessor -> String.valueOf(accessor.parameterTypes().size()));
+        source.append("};\n\n");
+
+        source.append("    /**\n     * Creates the accessor for the messages of a locale.\n     *\n")
+                .append("     * @param resolver The resolver providing the messages.\n")
+                .append("     * @param locale   The locale of the messages.\n     */\n")
+                .append("    public ").append(className).append("(MessageBundleResolver resolver, Locale locale) {\n")
+                .append("        super(resolver, locale, KEYS, REPLACEMENT_COUNTS);\n    }\n");
+
+        for (int slot = 0; slot < accessors.size(); slot++) {
+            Accessor accessor = accessors.get(slot);
+            renderMethod(source, accessor, slot, accessor.parameterTypes());
+            if (!accessor.parameterTypes().stream().allMatch("Object"::equals)) {
+                renderMethod(source, accessor, slot, Collections.nCopies(accessor.parameterTypes().size(), "Object"));
+            }
+        }
+        return source.append("}\n").toString();
+    }
+
+    private static void renderMethod(StringBuilder source, Accessor accessor, int slot, List<String> parameterTypes) {
+        source.append("\n    /**\n     * Returns the message '").append(javadocText(accessor.key())).append("': ")
+                .append(javadocText(accessor.message())).append("\n     *\n");
+        for (int i = 1; i <= parameterTypes.size(); i++) {
+            source.append("     * @param argument").append(i).append(" Replacement parameter ").append(i).append(".\n");
+        }
+        source.append("     * @return The formatted message.\n     */\n")
+                .append("    public String ").append(accessor.methodName()).append('(');
+        for (int i = 0; i < parameterTypes.size(); i++) {
+            source.append(i == 0 ? "" : ", ").append(parameterTypes.get(i)).append(" argument").append(i + 1);
+        }
+        source.append(") {\n        return definition(").append(slot).append(").createFormattedMessage(");
+        boolean varargs = parameterTypes.size() > 3;
+        source.append(varargs ? "new Object[]{" : "");
+        for (int i = 0; i < parameterTypes.size(); i++) {
+            source.append(i == 0 ? "" : ", ").append("argument").append(i + 1);
+        }
+        source.append(varargs ? "}" : "").append(");\n    }\n");
+    }
+
+    /**
+     * Determines the parameter types of a message: primitives where the conversion renders a widened argument the same
+     * as the original one, objects otherwise.
+     */
+    private static List<String> parameterTypes(MessageDefinition definition) {
+        int count = definition.getReplacementCount();
+        List<String> types = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            types.add("Object");
+        }
+        if (definition.getFormatStringType() != FormatStringType.STRING_FORMAT || count == 0 || count > 2) {
+            return types;
+        }
+
+        StringBuilder conversions = new StringBuilder();
+        Matcher matcher = FormatStringType.STRING_FORMAT.getPattern().matcher(definition.getFormatString());
+        while (matcher.find()) {
+            String specifier = matcher.group();
+            if (specifier.indexOf('$') >= 0 || specifier.indexOf('<') >= 0) {
+                return types;
+            }
+            conversions.append(specifier.charAt(specifier.length() - 1));
+        }
+        if (conversions.length() != count) {
+            return types;
+        }
+
+        if (conversions.chars().allMatch(c -> INTEGRAL_CONVERSIONS.indexOf(c) >= 0)) {
+            types.replaceAll(type -> "long");
+        } else if (count == 1 && FLOATING_CONVERSIONS.indexOf(conversions.charAt(0)) >= 0) {
+            types.set(0, "double");
+        } else if (count == 1 && CHARACTER_CONVERSIONS.indexOf(conversions.charAt(0)) >= 0) {
+            types.set(0, "char");
+        }
+        return types;
+    }
+
+    /**
+     * Returns the names of the methods an accessor inherits from {@link MessageAccessor} and {@link Object}, which a
+     * generated method would override or clash with.
+     */
+    private static Set<String> reservedMethodNames() {
+        Set<String> names = new HashSet<>();
+        for (Class<?> type = MessageAccessor.class; type != null; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                names.add(method.getName());
+            }
+        }
+        return Set.copyOf(names);
+    }
+
+    private static String toMethodName(String key) {
+        StringBuilder name = new StringBuilder(key.length());
+        boolean upperCaseNext = false;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                upperCaseNext = name.length() > 0;
+            } else if (upperCaseNext) {
+                name.append(Character.toUpperCase(c));
+                upperCaseNext = false;
+            } else {
+                name.append(name.length() == 0 ? Character.toLowerCase(c) : c);
+            }
+        }
+        return name.toString();
+    }
+
+    private static String javaString(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private static String javadocText(String value) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '&' || c == '<' || c == '>' || c == '@' || c == '\\' || c == '/' || c == '{' || c == '}' || c < 0x20 || c > 0x7e) {
+                text.append("&#").append((int) c).append(';');
+            } else {
+                text.append(c);
+            }
+        }
+        return text.toString();
+    }
+
+    private static <T> void appendList(StringBuilder source, List<T> values, Function<T, String> mapper) {
+        for (int i = 0; i < values.size(); i++) {
+            source.append(i == 0 ? "" : ", ").append(mapper.apply(values.get(i)));
+        }
+    }
+
+    private String getPackageName(TypeElement element) {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(element);
+        return packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * A generated accessor method.
+     */
+    private record Accessor(String key, String message, String methodName, List<String> parameterTypes) {
+    }
+}
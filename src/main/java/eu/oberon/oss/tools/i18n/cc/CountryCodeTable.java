@@ -5,8 +5,10 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -14,6 +16,14 @@ import static eu.oberon.oss.tools.i18n.cc.CountryCodeTableLookupKeys.NAME;
 
 /**
  * Allows lookup up country information from a code table.
+ * <p>
+ * Besides the lookup by string, the codes can be looked up without allocating or hashing: the ISO 3166 alpha 2 and
+ * alpha 3 codes index arrays of 26<sup>2</sup> and 26<sup>3</sup> slots by their letters, and the UNM49 codes an
+ * array of 1000 slots by their number. These lookups take single characters, a code at an offset in a longer
+ * {@link CharSequence}, such as a line being parsed, or the numeric UNM49 code.
+ * <p>
+ * For type-ahead search, the names can be searched by prefix and with a tolerance for typing errors, ignoring case,
+ * accents and punctuation, see {@link #findByNamePrefix(CharSequence, int)}.
  *
  * @author TigerLilly64
  * @since 1.0.0
@@ -22,8 +32,14 @@ import static eu.oberon.oss.tools.i18n.cc.CountryCodeTableLookupKeys.NAME;
 public final class CountryCodeTable {
 
     private static final String DEFAULT_FIELD_SEPARATOR = ";";
+    private static final int LETTERS = 26;
+    private static final int UNM49_CODES = 1000;
 
     private final Map<CountryCodeTableLookupKeys, Map<String, CountryCodeTableEntry>> lookupMap;
+    private final CountryCodeTableEntry[] alpha2Index = new CountryCodeTableEntry[LETTERS * LETTERS];
+    private final CountryCodeTableEntry[] alpha3Index = new CountryCodeTableEntry[LETTERS * LETTERS * LETTERS];
+    private final CountryCodeTableEntry[] unm49Index = new CountryCodeTableEntry[UNM49_CODES];
+    private final CountryNameIndex nameIndex;
 
     /**
      * Performs a lookup operation for the specified country code and lookup key
@@ -37,7 +53,194 @@ public final class CountryCodeTable {
      * @since 1.0.0
      */
     public @Nullable CountryCodeTableEntry findEntry(@NotNull String lookupValue, @NotNull CountryCodeTableLookupKeys lookupKey) {
-        return lookupMap.get(lookupKey).get(lookupValue);
+        return switch (lookupKey) {
+            case NAME -> lookupMap.get(NAME).get(lookupValue);
+            case ISO3166_ALPHA_2 -> findByAlpha2(lookupValue);
+            case ISO3166_ALPHA_3 -> findByAlpha3(lookupValue);
+            case UNM49 -> findByUnm49(lookupValue);
+        };
+    }
+
+    /**
+     * Looks up a country by its ISO 3166 alpha 2 code.
+     *
+     * @param first  The first letter of the code.
+     * @param second The second letter of the code.
+     *
+     * @return The entry for the code, or {@literal <null>} if the letters are not upper case letters A-Z or the code
+     *         is not present.
+     *
+     * @since 1.0.0
+     */
+    public @Nullable CountryCodeTableEntry findByAlpha2(char first, char second) {
+        int index = alpha2Index(first, second);
+        return index < 0 ? null : alpha2Index[index];
+    }
+
+    /**
+     * Looks up a country by its ISO 3166 alpha 2 code.
+     *
+     * @param code The code.
+     *
+     * @return The entry for the code, or {@literal <null>} if the code is not two upper case letters A-Z or is not
+     *         present.
+     *
+     * @since 1.0.0
+     */
+    public @Nullable CountryCodeTableEntry findByAlpha2(@NotNull CharSequence code) {
+        return code.length() == 2 ? findByAlpha2(code, 0) : null;
+    }
+
+    /**
+     * Looks up a country by the ISO 3166 alpha 2 code at an offset in a character sequence, without extracting the
+     * code.
+     *
+     * @param text   The character sequence holding the code.
+     * @param offset The offset of the code in the sequence.
+     *
+     * @return The entry for the code, or {@literal <null>} if the two characters at the offset are not upper case
+     *         letters A-Z or the code is not present.
+     *
+     * @throws IndexOutOfBoundsException if the sequence does not hold two characters at the offset.
+     * @since 1.0.0
+     */
+    public @Nullable CountryCodeTableEntry findByAlpha2(@NotNull CharSequence text, int offset) {
+        return findByAlpha2(text.charAt(offset), text.charAt(offset + 1));
+    }
+
+    /**
+     * Looks up a country by its ISO 3166 alpha 3 code.
+     *
+     * @param first  The first letter of the code.
+     * @param second The second letter of the code.
+     * @param third  The third letter of the code.
+     *
+     * @return The entry for the code, or {@literal <null>} if the letters are not upper case letters A-Z or the code
+     *         is not present.
+     *
+     * @since 1.0.0
+     */
+    public @Nullable CountryCodeTableEntry findByAlpha3(char first, char second, char third) {
+        int index = alpha3Index(first, second, third);
+        return index < 0 ? null : alpha3Index[index];
+    }
+
+    /**
+     * Looks up a country by its ISO 3166 alpha 3 code.
+     *
+     * @param code The code.
+     *
+     * @return The entry for the code, or {@literal <null>} if the code is not three upper case letters A-Z or is not
+     *         present.
+     *
+     * @since 1.0.0
+     */
+    public @Nullable CountryCodeTableEntry findByAlpha3(@NotNull CharSequence code) {
+        return code.length() == 3 ? findByAlpha3(code, 0) : null;
+    }
+
+    /**
+     * Looks up a country by the ISO 3166 alpha 3 code at an offset in a character sequence, without extracting the
+     * code.
+     *
+     * @param text   The character sequence holding the code.
+     * @param offset The offset of the code in the sequence.
+     *
+     * @return The entry for the code, or {@literal <null>} if the three characters at the offset are not upper case
+     *         letters A-Z or the code is not present.
+     *
+     * @throws IndexOutOfBoundsException if the sequence does not hold three characters at the offset.
+     * @since 1.0.0
+     */
+    public @Nullable CountryCodeTableEntry findByAlpha3(@NotNull CharSequence text, int offset) {
+        return findByAlpha3(text.charAt(offset), text.charAt(offset + 1), text.charAt(offset + 2));
+    }
+
+    /**
+     * Looks up a country by its numeric UNM49 code.
+     *
+     * @param code The code, from 0 to 999.
+     *
+     * @return The entry for the code, or {@literal <null>} if the code is out of range or not present.
+     *
+     * @since 1.0.0
+     */
+    public @Nullable CountryCodeTableEntry findByUnm49(int code) {
+        return code >= 0 && code < UNM49_CODES ? unm49Index[code] : null;
+    }
+
+    /**
+     * Looks up a country by its UNM49 code.
+     *
+     * @param code The code, consisting of three digits.
+     *
+     * @return The entry for the code, or {@literal <null>} if the code is not three digits or is not present.
+     *
+     * @since 1.0.0
+     */
+    public @Nullable CountryCodeTableEntry findByUnm49(@NotNull CharSequence code) {
+        return code.length() == 3 ? findByUnm49(code, 0) : null;
+    }
+
+    /**
+     * Looks up a country by the UNM49 code at an offset in a character sequence, without extracting or parsing the
+     * code.
+     *
+     * @param text   The character sequence holding the code.
+     * @param offset The offset of the code in the sequence.
+     *
+     * @return The entry for the code, or {@literal <null>} if the three characters at the offset are not digits or
+     *         the code is not present.
+     *
+     * @throws IndexOutOfBoundsException if the sequence does not hold three characters at the offset.
+     * @since 1.0.0
+     */
+    public @Nullable CountryCodeTableEntry findByUnm49(@NotNull CharSequence text, int offset) {
+        int hundreds = digit(text.charAt(offset));
+        int tens = digit(text.charAt(offset + 1));
+        int units = digit(text.charAt(offset + 2));
+        if ((hundreds | tens | units) < 0) {
+            return null;
+        }
+        return unm49Index[hundreds * 100 + tens * 10 + units];
+    }
+
+    /**
+     * Finds the countries whose name, or a word in whose name, starts with the prefix, ignoring case, accents and
+     * punctuation: {@code nether} finds {@code Netherlands (the)}, and {@code cote d'iv} finds {@code Côte d'Ivoire}.
+     *
+     * @param prefix The prefix to look for, for instance the text typed so far.
+     * @param limit  The maximum number of entries to return.
+     *
+     * @return The entries found: names starting with the prefix first, followed by names with a later word starting
+     *         with the prefix, each group ordered by name.
+     *
+     * @since 1.0.0
+     */
+    public List<CountryCodeTableEntry> findByNamePrefix(@NotNull CharSequence prefix, int limit) {
+        return nameIndex.findByPrefix(prefix, limit);
+    }
+
+    /**
+     * Finds the countries whose name, or a word in whose name, starts with text that differs from the query by at most
+     * the specified number of inserted, deleted or replaced characters, ignoring case, accents and punctuation:
+     * {@code netherlnds} finds {@code Netherlands (the)} with a maximum distance of 1.
+     *
+     * @param query       The text to look for.
+     * @param maxDistance The maximum number of edits.
+     * @param limit       The maximum number of entries to return.
+     *
+     * @return The entries found, ordered by the number of edits, then as for
+     *         {@link #findByNamePrefix(CharSequence, int)}.
+     *
+     * @throws IllegalArgumentException if the maximum distance is negative.
+     * @since 1.0.0
+     */
+    public List<CountryCodeTableEntry> findByApproximateName(@NotNull CharSequence query, int maxDistance, int limit) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("The maximum distance cannot be negative: " + maxDistance);
+        }
+        return nameIndex.findByApproximatePrefix(query, maxDistance, limit);
     }
 
     /**
@@ -117,7 +320,7 @@ public final class CountryCodeTable {
 
     private CountryCodeTable(InputStream inputStream, String fieldSeparator) throws IOException {
         Map<CountryCodeTableLookupKeys, Map<String, CountryCodeTableEntry>> work = new EnumMap<>(CountryCodeTableLookupKeys.class);
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
             int lineCount = 0;
             String line;
             while ((line = reader.readLine()) != null) {
@@ -137,6 +340,28 @@ public final class CountryCodeTable {
             }
         }
         lookupMap = Map.copyOf(work);
+        nameIndex = new CountryNameIndex(lookupMap.getOrDefault(NAME, Map.of()).values());
+    }
+
+    private static int letter(char c) {
+        return c >= 'A' && c <= 'Z' ? c - 'A' : -1;
+    }
+
+    private static int digit(char c) {
+        return c >= '0' && c <= '9' ? c - '0' : -1;
+    }
+
+    private static int alpha2Index(char first, char second) {
+        int a = letter(first);
+        int b = letter(second);
+        return (a | b) < 0 ? -1 : a * LETTERS + b;
+    }
+
+    private static int alpha3Index(char first, char second, char third) {
+        int a = letter(first);
+        int b = letter(second);
+        int c = letter(third);
+        return (a | b | c) < 0 ? -1 : (a * LETTERS + b) * LETTERS + c;
     }
 
     private void addCountryCodeTableEntry(Map<CountryCodeTableLookupKeys, Map<String, CountryCodeTableEntry>> work, CountryCodeTableEntry countryCodeTableEntry) {
@@ -150,5 +375,21 @@ public final class CountryCodeTable {
             };
             work.get(lookupKey).putIfAbsent(targetLookupKey, countryCodeTableEntry);
         }
+
+        // The entry validates the codes, so they always map to a slot; as with the maps, the first entry wins.
+        String alpha2 = countryCodeTableEntry.iso3166Alpha2Code();
+        int alpha2Slot = alpha2Index(alpha2.charAt(0), alpha2.charAt(1));
+        if (alpha2Index[alpha2Slot] == null) {
+            alpha2Index[alpha2Slot] = countryCodeTableEntry;
+        }
+        String alpha3 = countryCodeTableEntry.iso3166Alpha3Code();
+        int alpha3Slot = alpha3Index(alpha3.charAt(0), alpha3.charAt(1), alpha3.charAt(2));
+        if (alpha3Index[alpha3Slot] == null) {
+            alpha3Index[alpha3Slot] = countryCodeTableEntry;
+        }
+        int unm49Slot = Integer.parseInt(countryCodeTableEntry.unm49Code());
+        if (unm49Index[unm49Slot] == null) {
+            unm49Index[unm49Slot] = countryCodeTableEntry;
+        }
     }
 }
@@ -0,0 +1,231 @@
+package eu.oberon.oss.tools.i18n.cc;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Searches country names by prefix, ignoring case, accents and punctuation, for type-ahead search in user interfaces.
+ * <p>
+ * The names are normalized once, when the index is created: accents are removed, letters are converted to lower case
+ * and every run of other characters is replaced by a single space, so {@code Côte d'Ivoire} is indexed as
+ * {@code cote d ivoire}. Each name is indexed from the start of every word, in a sorted array, so a prefix search is a
+ * binary search followed by a scan of the matching keys. Matches at the start of a name rank before matches at a later
+ * word: {@code united} finds {@code United Arab Emirates (the)} before {@code Tanzania, United Republic of}.
+ * <p>
+ * The fuzzy search tolerates typing errors: it finds the names that start with, or have a word that starts with, a
+ * string within a maximum number of inserted, deleted or replaced characters of the query. The index is immutable and
+ * can be shared by all threads.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+final class CountryNameIndex {
+    private static final int NAME_START = 0;
+    private static final int WORD_START = 1;
+
+    // Sorted by key; entries[i] and ranks[i] belong to keys[i].
+    private final String[] keys;
+    private final CountryCodeTableEntry[] entries;
+    private final int[] ranks;
+
+    /**
+     * Creates the index for the entries.
+     *
+     * @param countryCodeTableEntries The entries to index by name.
+     *
+     * @since 1.0.0
+     */
+    CountryNameIndex(@NotNull Collection<CountryCodeTableEntry> countryCodeTableEntries) {
+        List<Key> work = new ArrayList<>();
+        for (CountryCodeTableEntry entry : countryCodeTableEntries) {
+            String name = normalize(entry.countryName());
+            for (int i = 0; i < name.length(); i++) {
+                if (i == 0 || name.charAt(i - 1) == ' ') {
+                    work.add(new Key(name.substring(i), entry, i == 0 ? NAME_START : WORD_START));
+                }
+            }
+        }
+        work.sort(Comparator.comparing(Key::key).thenComparingInt(Key::rank).thenComparing(key -> key.entry().countryName()));
+
+        keys = new String[work.size()];
+        entries = new CountryCodeTableEntry[work.size()];
+        ranks = new int[work.size()];
+        for (int i = 0; i < work.size(); i++) {
+            keys[i] = work.get(i).key();
+            entries[i] = work.get(i).entry();
+            ranks[i] = work.get(i).rank();
+        }
+    }
+
+    /**
+     * Finds the entries whose name, or a word in whose name, starts with the prefix.
+     *
+     * @param prefix The prefix to look for.
+     * @param limit  The maximum number of entries to return.
+     *
+     * @return The entries found, names starting with the prefix first, each group in the order of the names.
+     *
+     * @since 1.0.0
+     */
+    List<CountryCodeTableEntry> findByPrefix(@NotNull CharSequence prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int first = lowerBound(normalized);
+        int last = first;
+        while (last < keys.length && keys[last].startsWith(normalized)) {
+            last++;
+        }
+
+        // The keys are ordered by the matching word, so each group is sorted by name before the limit is applied.
+        Set<CountryCodeTableEntry> found = new LinkedHashSet<>();
+        for (int rank = NAME_START; rank <= WORD_START && found.size() < limit; rank++) {
+            Set<CountryCodeTableEntry> group = new HashSet<>();
+            for (int i = first; i < last; i++) {
+                if (ranks[i] == rank && !found.contains(entries[i])) {
+                    group.add(entries[i]);
+                }
+            }
+            group.stream()
+                    .sorted(Comparator.comparing(CountryCodeTableEntry::countryName))
+                    .limit(limit - (long) found.size())
+                    .forEachOrdered(found::add);
+        }
+        return List.copyOf(found);
+    }
+
+    /**
+     * Finds the entries whose name, or a word in whose name, starts with a string within the maximum edit distance
+     * of the query.
+     *
+     * @param query       The text to look for.
+     * @param maxDistance The maximum number of characters to insert, delete or replace to make the query match.
+     * @param limit       The maximum number of entries to return.
+     *
+     * @return The entries found, the closest matches first; matches at the same distance as for
+     *         {@link #findByPrefix(CharSequence, int)}.
+     *
+     * @since 1.0.0
+     */
+    List<CountryCodeTableEntry> findByApproximatePrefix(@NotNull CharSequence query, int maxDistance, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        // Any key is within the length of the query of a match, so a larger distance would only oversize the rows.
+        maxDistance = Math.min(maxDistance, normalized.length());
+        int[] previous = new int[normalized.length() + maxDistance + 1];
+        int[] current = new int[previous.length];
+        Map<CountryCodeTableEntry, Integer> scores = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            int distance = prefixDistance(normalized, keys[i], maxDistance, previous, current);
+            if (distance <= maxDistance) {
+                // Order by distance first and by rank within the same distance.
+                scores.merge(entries[i], distance * 2 + ranks[i], Math::min);
+            }
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<CountryCodeTableEntry, Integer>comparingByValue()
+                        .thenComparing(entry -> entry.getKey().countryName()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * Normalizes a name or query: removes accents, converts letters to lower case and replaces every run of other
+     * characters by a single space, without leading or trailing spaces.
+     *
+     * @param text The text to normalize.
+     *
+     * @return The normalized text.
+     *
+     * @since 1.0.0
+     */
+    static String normalize(@NotNull CharSequence text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        boolean separator = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (separator && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                normalized.append(Character.toLowerCase(c));
+                separator = false;
+            } else {
+                separator = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    private int lowerBound(String prefix) {
+        int index = Arrays.binarySearch(keys, prefix);
+        if (index >= 0) {
+            // Several entries may share the key; find the first.
+            while (index > 0 && keys[index - 1].equals(prefix)) {
+                index--;
+            }
+            return index;
+        }
+        return -index - 1;
+    }
+
+    /**
+     * Returns the smallest edit distance between the query and any prefix of the key, or a value above the maximum
+     * distance if it exceeds the maximum. Only the characters of the key within reach of the maximum distance are
+     * compared, and the computation stops as soon as a whole row of the distance matrix exceeds the maximum.
+     */
+    private static int prefixDistance(String query, String key, int maxDistance, int[] previous, int[] current) {
+        int columns = Math.min(key.length(), query.length() + maxDistance);
+        for (int j = 0; j <= columns; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= query.length(); i++) {
+            current[0] = i;
+            int rowMinimum = i;
+            char q = query.charAt(i - 1);
+            for (int j = 1; j <= columns; j++) {
+                int substitution = previous[j - 1] + (q == key.charAt(j - 1) ? 0 : 1);
+                int value = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                current[j] = value;
+                rowMinimum = Math.min(rowMinimum, value);
+            }
+            if (rowMinimum > maxDistance) {
+                return rowMinimum;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        int distance = Integer.MAX_VALUE;
+        for (int j = 0; j <= columns; j++) {
+            distance = Math.min(distance, previous[j]);
+        }
+        return distance;
+    }
+
+    private record Key(String key, CountryCodeTableEntry entry, int rank) {
+    }
+}
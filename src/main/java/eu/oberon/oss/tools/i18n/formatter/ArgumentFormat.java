@@ -0,0 +1,61 @@
+package eu.oberon.oss.tools.i18n.formatter;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Renders a single replacement parameter into a target buffer, following the conventions of the format type the
+ * argument slot belongs to.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+interface ArgumentFormat {
+    /**
+     * Appends the textual representation of the argument to the target.
+     *
+     * @param target   The buffer to append to.
+     * @param argument The argument to render, may be {@literal <null>}.
+     *
+     * @since 1.0.0
+     */
+    void appendTo(StringBuilder target, @Nullable Object argument);
+
+    /**
+     * Appends the textual representation of an {@code int} argument to the target. Implementations render it the
+     * same way as a boxed {@link Integer}, preferably without boxing it.
+     *
+     * @param target   The buffer to append to.
+     * @param argument The argument to render.
+     *
+     * @since 1.0.0
+     */
+    default void appendTo(StringBuilder target, int argument) {
+        appendTo(target, (Object) argument);
+    }
+
+    /**
+     * Appends the textual representation of a {@code long} argument to the target. Implementations render it the
+     * same way as a boxed {@link Long}, preferably without boxing it.
+     *
+     * @param target   The buffer to append to.
+     * @param argument The argument to render.
+     *
+     * @since 1.0.0
+     */
+    default void appendTo(StringBuilder target, long argument) {
+        appendTo(target, (Object) argument);
+    }
+
+    /**
+     * Appends the textual representation of a {@code double} argument to the target. Implementations render it the
+     * same way as a boxed {@link Double}, preferably without boxing it.
+     *
+     * @param target   The buffer to append to.
+     * @param argument The argument to render.
+     *
+     * @since 1.0.0
+     */
+    default void appendTo(StringBuilder target, double argument) {
+        appendTo(target, (Object) argument);
+    }
+}
@@ -0,0 +1,14 @@
+package eu.oberon.oss.tools.i18n.formatter;
+
+/**
+ * A snapshot of the statistics of a cache.
+ *
+ * @param hits   The number of lookups that were served from the cache.
+ * @param misses The number of lookups that required a new entry to be created.
+ * @param size   The number of entries currently held by the cache.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+public record CacheStatistics(long hits, long misses, int size) {
+}
@@ -0,0 +1,372 @@
+package eu.oberon.oss.tools.i18n.formatter;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.IllegalFormatException;
+import java.util.List;
+
+/**
+ * A format string that has been broken down into literal segments and argument slots. Rendering appends the
+ * segments and the arguments directly into a target buffer, without analyzing the format string again.
+ * <p>
+ * Instances are immutable, and can be shared freely between threads.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+final class CompiledFormat {
+    private static final int ESTIMATED_ARGUMENT_LENGTH = 16;
+    private static final char LOG_ESCAPE_CHAR = '\\';
+    private static final char TEXT_QUOTE_CHAR = '\'';
+
+    // literals[i] precedes slot i, the last literal follows the last slot.
+    private final String[] literals;
+    private final int[] argumentIndexes;
+    private final ArgumentFormat[] argumentFormats;
+
+    /**
+     * The number of distinct arguments needed to render this format.
+     */
+    @Getter
+    private final int argumentCount;
+
+    /**
+     * The expected length of a rendered message, used for pre-sizing buffers.
+     */
+    @Getter
+    private final int estimatedLength;
+
+    private CompiledFormat(List<String> literals, List<Integer> argumentIndexes, List<ArgumentFormat> argumentFormats) {
+        this.literals = literals.toArray(new String[0]);
+        this.argumentIndexes = argumentIndexes.stream().mapToInt(Integer::intValue).toArray();
+        this.argumentFormats = argumentFormats.toArray(new ArgumentFormat[0]);
+
+        int maxIndex = -1;
+        for (int index : this.argumentIndexes) {
+            maxIndex = Math.max(maxIndex, index);
+        }
+        argumentCount = maxIndex + 1;
+
+        int length = this.argumentIndexes.length * ESTIMATED_ARGUMENT_LENGTH;
+        for (String literal : this.literals) {
+            length += literal.length();
+        }
+        estimatedLength = length;
+    }
+
+    /**
+     * Renders the format into the target buffer.
+     *
+     * @param target    The buffer to render into.
+     * @param arguments The arguments; must hold at least {@link #getArgumentCount()} elements.
+     *
+     * @since 1.0.0
+     */
+    void render(@NotNull StringBuilder target, @Nullable Object[] arguments) {
+        target.ensureCapacity(target.length() + estimatedLength);
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            target.append(literals[i]);
+            argumentFormats[i].appendTo(target, arguments[argumentIndexes[i]]);
+        }
+        target.append(literals[argumentIndexes.length]);
+    }
+
+    /**
+     * Renders a format that uses a single argument into the target buffer.
+     *
+     * @param target   The buffer to render into.
+     * @param argument The argument.
+     *
+     * @since 1.0.0
+     */
+    void render(@NotNull StringBuilder target, @Nullable Object argument) {
+        target.ensureCapacity(target.length() + estimatedLength);
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            target.append(literals[i]);
+            argumentFormats[i].appendTo(target, argument);
+        }
+        target.append(literals[argumentIndexes.length]);
+    }
+
+    /**
+     * Renders a format that uses two arguments into the target buffer.
+     *
+     * @param target    The buffer to render into.
+     * @param argument1 The first argument.
+     * @param argument2 The second argument.
+     *
+     * @since 1.0.0
+     */
+    void render(@NotNull StringBuilder target, @Nullable Object argument1, @Nullable Object argument2) {
+        target.ensureCapacity(target.length() + estimatedLength);
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            target.append(literals[i]);
+            argumentFormats[i].appendTo(target, argumentIndexes[i] == 0 ? argument1 : argument2);
+        }
+        target.append(literals[argumentIndexes.length]);
+    }
+
+    /**
+     * Renders a format that uses three arguments into the target buffer.
+     *
+     * @param target    The buffer to render into.
+     * @param argument1 The first argument.
+     * @param argument2 The second argument.
+     * @param argument3 The third argument.
+     *
+     * @since 1.0.0
+     */
+    void render(@NotNull StringBuilder target, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3) {
+        target.ensureCapacity(target.length() + estimatedLength);
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            target.append(literals[i]);
+            Object argument = switch (argumentIndexes[i]) {
+                case 0 -> argument1;
+                case 1 -> argument2;
+                default -> argument3;
+            };
+            argumentFormats[i].appendTo(target, argument);
+        }
+        target.append(literals[argumentIndexes.length]);
+    }
+
+    /**
+     * Renders a format that uses a single {@code int} argument into the target buffer, without boxing it.
+     *
+     * @param target   The buffer to render into.
+     * @param argument The argument.
+     *
+     * @since 1.0.0
+     */
+    void render(@NotNull StringBuilder target, int argument) {
+        target.ensureCapacity(target.length() + estimatedLength);
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            target.append(literals[i]);
+            argumentFormats[i].appendTo(target, argument);
+        }
+        target.append(literals[argumentIndexes.length]);
+    }
+
+    /**
+     * Renders a format that uses a single {@code long} argument into the target buffer, without boxing it.
+     *
+     * @param target   The buffer to render into.
+     * @param argument The argument.
+     *
+     * @since 1.0.0
+     */
+    void render(@NotNull StringBuilder target, long argument) {
+        target.ensureCapacity(target.length() + estimatedLength);
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            target.append(literals[i]);
+            argumentFormats[i].appendTo(target, argument);
+        }
+        target.append(literals[argumentIndexes.length]);
+    }
+
+    /**
+     * Renders a format that uses a single {@code double} argument into the target buffer, without boxing it.
+     *
+     * @param target   The buffer to render into.
+     * @param argument The argument.
+     *
+     * @since 1.0.0
+     */
+    void render(@NotNull StringBuilder target, double argument) {
+        target.ensureCapacity(target.length() + estimatedLength);
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            target.append(literals[i]);
+            argumentFormats[i].appendTo(target, argument);
+        }
+        target.append(literals[argumentIndexes.length]);
+    }
+
+    /**
+     * Compiles a Log4j style format string, where arguments are specified as '{}'. A '{}' preceded by a backslash
+     * is rendered as a literal '{}', a double backslash renders as a single one, in the same way Log4j's
+     * {@link org.apache.logging.log4j.message.ParameterizedMessage} does.
+     *
+     * @param formatString The format string to compile.
+     *
+     * @return The compiled format.
+     *
+     * @since 1.0.0
+     */
+    static CompiledFormat compileLogFormat(@NotNull String formatString) {
+        Builder builder = new Builder();
+        boolean escaped = false;
+        int length = formatString.length();
+        for (int i = 0; i < length; i++) {
+            char c = formatString.charAt(i);
+            if (c == LOG_ESCAPE_CHAR) {
+                if (escaped) {
+                    builder.appendLiteral(c);
+                }
+                escaped = !escaped;
+            } else if (c == '{' && i + 1 < length && formatString.charAt(i + 1) == '}') {
+                if (escaped) {
+                    builder.appendLiteral("{}");
+                    escaped = false;
+                } else {
+                    builder.addSlot(builder.slotCount(), PlaceholderStyle.LOG_STYLE);
+                }
+                i++;
+            } else {
+                if (escaped) {
+                    builder.appendLiteral(LOG_ESCAPE_CHAR);
+                    escaped = false;
+                }
+                builder.appendLiteral(c);
+            }
+        }
+        if (escaped) {
+            builder.appendLiteral(LOG_ESCAPE_CHAR);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Compiles a {@link java.text.MessageFormat} style format string, where arguments are specified as '{n}'. Quoting
+     * follows the {@link java.text.MessageFormat} rules: a single quote starts or ends a quoted section, and two
+     * single quotes represent a literal single quote.
+     *
+     * @param formatString The format string to compile.
+     *
+     * @return The compiled format, or {@literal <null>} if the format string uses features that are not supported by
+     *         the compiled renderer (format types and styles, such as '{0,number,#.##}'), or is malformed. Such format
+     *         strings are to be rendered with {@link java.text.MessageFormat}.
+     *
+     * @since 1.0.0
+     */
+    static @Nullable CompiledFormat compileTextFormat(@NotNull String formatString) {
+        Builder builder = new Builder();
+        boolean quoted = false;
+        int length = formatString.length();
+        for (int i = 0; i < length; i++) {
+            char c = formatString.charAt(i);
+            if (c == TEXT_QUOTE_CHAR) {
+                if (i + 1 < length && formatString.charAt(i + 1) == TEXT_QUOTE_CHAR) {
+                    builder.appendLiteral(c);
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == '{' && !quoted) {
+                int end = formatString.indexOf('}', i + 1);
+                int index = end < 0 ? -1 : parseArgumentIndex(formatString, i + 1, end);
+                if (index < 0) {
+                    return null;
+                }
+                builder.addSlot(index, PlaceholderStyle.TEXT_STYLE);
+                i = end;
+            } else {
+                builder.appendLiteral(c);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Compiles a {@link java.util.Formatter} style format string, where arguments are specified as '%s', '%1$d',
+     * '%5.2f' and similar. Argument indexes are resolved the same way {@link java.util.Formatter} resolves them:
+     * explicit indexes, relative indexes (the '<' flag) and ordinary indexes are all supported.
+     *
+     * @param formatString The format string to compile.
+     *
+     * @return The compiled format, or {@literal <null>} if the format string contains an invalid specifier. Such format
+     *         strings are to be rendered with {@link String#format}, which reports the error.
+     *
+     * @since 1.0.0
+     */
+    static @Nullable CompiledFormat compileStringFormat(@NotNull String formatString) {
+        Builder builder = new Builder();
+        int ordinaryIndex = 0;
+        int previousIndex = -1;
+        int length = formatString.length();
+        for (int i = 0; i < length; i++) {
+            char c = formatString.charAt(i);
+            if (c != '%') {
+                builder.appendLiteral(c);
+                continue;
+            }
+
+            FormatSpecifier specifier = FormatSpecifier.parse(formatString, i);
+            if (specifier == null) {
+                return null;
+            }
+
+            if (specifier.isArgumentSpecifier()) {
+                int index = switch (specifier.getArgumentIndex()) {
+                    case FormatSpecifier.ORDINARY_ARGUMENT -> ordinaryIndex++;
+                    case FormatSpecifier.PREVIOUS_ARGUMENT -> previousIndex;
+                    default -> specifier.getArgumentIndex();
+                };
+                if (index < 0) {
+                    return null;
+                }
+                builder.addSlot(index, specifier);
+                previousIndex = index;
+            } else {
+                try {
+                    builder.appendLiteral(specifier.renderConstant());
+                } catch (IllegalFormatException e) {
+                    return null;
+                }
+            }
+            i = specifier.getEnd() - 1;
+        }
+        return builder.build();
+    }
+
+    private static int parseArgumentIndex(String formatString, int start, int end) {
+        if (start == end) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = start; i < end; i++) {
+            char c = formatString.charAt(i);
+            if (c < '0' || c > '9' || index > Integer.MAX_VALUE / 10) {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    /**
+     * Collects literal segments and argument slots while a format string is being compiled.
+     */
+    private static final class Builder {
+        private final StringBuilder literal = new StringBuilder();
+        private final List<String> literals = new ArrayList<>();
+        private final List<Integer> argumentIndexes = new ArrayList<>();
+        private final List<ArgumentFormat> argumentFormats = new ArrayList<>();
+
+        void appendLiteral(char c) {
+            literal.append(c);
+        }
+
+        void appendLiteral(String s) {
+            literal.append(s);
+        }
+
+        int slotCount() {
+            return argumentIndexes.size();
+        }
+
+        void addSlot(int argumentIndex, ArgumentFormat argumentFormat) {
+            literals.add(literal.toString());
+            literal.setLength(0);
+            argumentIndexes.add(argumentIndex);
+            argumentFormats.add(argumentFormat);
+        }
+
+        CompiledFormat build() {
+            literals.add(literal.toString());
+            return new CompiledFormat(literals, argumentIndexes, argumentFormats);
+        }
+    }
+}
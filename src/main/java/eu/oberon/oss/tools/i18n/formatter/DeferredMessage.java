@@ -0,0 +1,49 @@
+package eu.oberon.oss.tools.i18n.formatter;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * A message supplier holding a message definition and its replacement parameters, which formats the message on the
+ * first call to {@link #get()}. The number of parameters is validated when the supplier is created, so a mismatch is
+ * still reported where the message is created.
+ * <p>
+ * The parameters are rendered in the state they are in when the message is first requested.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+final class DeferredMessage implements Supplier<String> {
+    private final MessageDefinition definition;
+    private @Nullable Object[] parameters;
+    private volatile @Nullable String message;
+
+    DeferredMessage(@NotNull MessageDefinition definition, @Nullable Object[] parameters) {
+        definition.validateReplacementParameters(parameters);
+        this.definition = definition;
+        this.parameters = parameters;
+    }
+
+    @Override
+    public String get() {
+        String result = message;
+        if (result == null) {
+            synchronized (this) {
+                result = message;
+                if (result == null) {
+                    result = definition.createFormattedMessage(parameters);
+                    message = result;
+                    parameters = null;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return get();
+    }
+}
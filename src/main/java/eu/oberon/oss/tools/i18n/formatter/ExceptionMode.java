@@ -0,0 +1,41 @@
+package eu.oberon.oss.tools.i18n.formatter;
+
+/**
+ * Determines how a {@link MessagesHelper} creates exceptions through {@link MessagesHelper#createExceptionWithMessage}
+ * and {@link MessagesHelper#createExceptionWithCause}. The mode is chosen when the helper is created, so callers do
+ * not have to pass the suppression and stack trace flags on every call.
+ * <p>
+ * Filling in the stack trace is by far the most expensive part of creating an exception. Exceptions used for control
+ * flow, such as rejecting invalid input, are typically caught close to where they are thrown and rarely need one.
+ * The {@link #STACKLESS} and {@link #PREALLOCATED} modes require the exception class to have a
+ * {@code (String, Throwable, boolean, boolean)} constructor.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+public enum ExceptionMode {
+    /**
+     * Exceptions are created through the {@code (String)} and {@code (String, Throwable)} constructors, with a
+     * stack trace and suppression enabled.
+     *
+     * @since 1.0.0
+     */
+    STACK_TRACE,
+
+    /**
+     * Exceptions are created through the {@code (String, Throwable, boolean, boolean)} constructor, without a stack
+     * trace and with suppression disabled.
+     *
+     * @since 1.0.0
+     */
+    STACKLESS,
+
+    /**
+     * As {@link #STACKLESS}, but if the message does not take replacement parameters, a single exception instance is
+     * created with the helper and returned for every {@link MessagesHelper#createExceptionWithMessage} call. Without a
+     * stack trace, suppressed exceptions or a cause to be set later, the shared instance cannot be modified.
+     *
+     * @since 1.0.0
+     */
+    PREALLOCATED
+}
@@ -0,0 +1,320 @@
+package eu.oberon.oss.tools.i18n.formatter;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.Locale;
+
+/**
+ * A single, pre-parsed {@link Formatter} format specifier, using the syntax
+ * {@code %[argument_index$][flags][width][.precision]conversion}.
+ * <p>
+ * The most common conversions ({@code %s}, {@code %d}, {@code %x} and {@code %f} without flags, width or precision)
+ * are rendered directly into the target buffer. All other conversions are rendered by a {@link Formatter} writing
+ * into the target buffer, with the same output as {@link String#format}.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+@Getter(AccessLevel.PACKAGE)
+final class FormatSpecifier implements ArgumentFormat {
+    /**
+     * Argument index value, when the specifier refers to the argument of the previous specifier (the '<' flag).
+     */
+    static final int PREVIOUS_ARGUMENT = -2;
+
+    /**
+     * Argument index value, when the specifier uses the next ordinary argument.
+     */
+    static final int ORDINARY_ARGUMENT = -1;
+
+    private static final String FLAG_CHARACTERS = "-#+ 0,(<";
+    private static final String CONVERSION_CHARACTERS = "bBhHsScCdoxXeEfgGaAtTn%";
+    private static final int DEFAULT_FLOAT_PRECISION = 6;
+
+    private static volatile LocaleSymbols localeSymbols = LocaleSymbols.of(Locale.getDefault(Locale.Category.FORMAT));
+
+    private final String text;
+    private final int argumentIndex;
+    private final String flags;
+    private final int width;
+    private final int precision;
+    private final char conversion;
+    private final int end;
+    @Getter(AccessLevel.NONE)
+    private final String fallbackText;
+    @Getter(AccessLevel.NONE)
+    private final boolean simple;
+
+    private FormatSpecifier(String text, int argumentIndex, String flags, int width, int precision, String conversion, int end) {
+        this.text = text;
+        this.argumentIndex = argumentIndex;
+        this.flags = flags;
+        this.width = width;
+        this.precision = precision;
+        this.conversion = conversion.charAt(0);
+        this.end = end;
+
+        StringBuilder builder = new StringBuilder("%").append(flags.replace("<", ""));
+        if (width >= 0) {
+            builder.append(width);
+        }
+        if (precision >= 0) {
+            builder.append('.').append(precision);
+        }
+        fallbackText = builder.append(conversion).toString();
+        simple = flags.isEmpty() && width < 0 && precision < 0;
+    }
+
+    /**
+     * Parses the format specifier starting at the given position.
+     *
+     * @param formatString The format string containing the specifier.
+     * @param start        The position of the '%' character starting the specifier.
+     *
+     * @return The parsed specifier, or {@literal <null>} if the text at the given position is not a valid specifier.
+     *
+     * @since 1.0.0
+     */
+    static @Nullable FormatSpecifier parse(@NotNull String formatString, int start) {
+        int length = formatString.length();
+        int position = start + 1;
+
+        int argumentIndex = ORDINARY_ARGUMENT;
+        int digitsEnd = skipDigits(formatString, position);
+        if (digitsEnd > position && digitsEnd < length && formatString.charAt(digitsEnd) == '$') {
+            argumentIndex = parseNumber(formatString, position, digitsEnd) - 1;
+            if (argumentIndex < 0) {
+                return null;
+            }
+            position = digitsEnd + 1;
+        }
+
+        int flagsStart = position;
+        while (position < length && FLAG_CHARACTERS.indexOf(formatString.charAt(position)) >= 0) {
+            position++;
+        }
+        String flags = formatString.substring(flagsStart, position);
+        if (flags.indexOf('<') >= 0) {
+            argumentIndex = PREVIOUS_ARGUMENT;
+        }
+
+        int width = -1;
+        digitsEnd = skipDigits(formatString, position);
+        if (digitsEnd > position) {
+            width = parseNumber(formatString, position, digitsEnd);
+            position = digitsEnd;
+        }
+
+        int precision = -1;
+        if (position < length && formatString.charAt(position) == '.') {
+            digitsEnd = skipDigits(formatString, position + 1);
+            if (digitsEnd == position + 1) {
+                return null;
+            }
+            precision = parseNumber(formatString, position + 1, digitsEnd);
+            position = digitsEnd;
+        }
+
+        if (position >= length || width == Integer.MAX_VALUE || precision == Integer.MAX_VALUE
+                || CONVERSION_CHARACTERS.indexOf(formatString.charAt(position)) < 0) {
+            return null;
+        }
+
+        char conversionCharacter = formatString.charAt(position);
+        int conversionEnd = position + 1;
+        if (conversionCharacter == 't' || conversionCharacter == 'T') {
+            if (conversionEnd >= length || !Character.isLetter(formatString.charAt(conversionEnd))) {
+                return null;
+            }
+            conversionEnd++;
+        }
+
+        return new FormatSpecifier(formatString.substring(start, conversionEnd), argumentIndex, flags, width,
+                precision, formatString.substring(position, conversionEnd), conversionEnd);
+    }
+
+    /**
+     * Indicates if the specifier consumes an argument. The '%%' and '%n' specifiers do not.
+     *
+     * @return <b>True</b> if the specifier renders an argument, <b>false</b> otherwise.
+     *
+     * @since 1.0.0
+     */
+    boolean isArgumentSpecifier() {
+        return conversion != '%' && conversion != 'n';
+    }
+
+    /**
+     * Returns the text a specifier that does not consume an argument renders to.
+     *
+     * @return The rendered text.
+     *
+     * @since 1.0.0
+     */
+    String renderConstant() {
+        return String.format(fallbackText);
+    }
+
+    @Override
+    public void appendTo(StringBuilder target, @Nullable Object argument) {
+        if (!simple || !appendSimple(target, argument)) {
+            new Formatter(target, Locale.getDefault(Locale.Category.FORMAT)).format(fallbackText, argument);
+        }
+    }
+
+    @Override
+    public void appendTo(StringBuilder target, int argument) {
+        if (!simple || !appendSimple(target, argument, false)) {
+            appendTo(target, (Object) argument);
+        }
+    }
+
+    @Override
+    public void appendTo(StringBuilder target, long argument) {
+        if (!simple || !appendSimple(target, argument, true)) {
+            appendTo(target, (Object) argument);
+        }
+    }
+
+    @Override
+    public void appendTo(StringBuilder target, double argument) {
+        if (!simple || !appendSimple(target, argument)) {
+            appendTo(target, (Object) argument);
+        }
+    }
+
+    private boolean appendSimple(StringBuilder target, double argument) {
+        if (conversion == 's') {
+            target.append(argument);
+            return true;
+        }
+        return conversion == 'f' && appendFloat(target, argument);
+    }
+
+    private boolean appendSimple(StringBuilder target, long argument, boolean isLong) {
+        switch (conversion) {
+            case 's':
+                target.append(argument);
+                return true;
+            case 'd':
+                if (currentLocaleSymbols().zeroDigit == '0') {
+                    target.append(argument);
+                    return true;
+                }
+                return false;
+            case 'x':
+                target.append(isLong ? Long.toHexString(argument) : Integer.toHexString((int) argument));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean appendSimple(StringBuilder target, @Nullable Object argument) {
+        switch (conversion) {
+            case 's':
+                if (argument instanceof Formattable) {
+                    return false;
+                }
+                target.append(argument);
+                return true;
+            case 'd':
+                if (isIntegral(argument) && currentLocaleSymbols().zeroDigit == '0') {
+                    target.append(((Number) argument).longValue());
+                    return true;
+                }
+                return false;
+            case 'x':
+                return appendHex(target, argument);
+            case 'f':
+                if (argument instanceof Double || argument instanceof Float) {
+                    return appendFloat(target, ((Number) argument).doubleValue());
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean appendHex(StringBuilder target, @Nullable Object argument) {
+        if (argument instanceof Integer i) {
+            target.append(Integer.toHexString(i));
+        } else if (argument instanceof Long l) {
+            target.append(Long.toHexString(l));
+        } else if (argument instanceof Short s) {
+            target.append(Integer.toHexString(s & 0xffff));
+        } else if (argument instanceof Byte b) {
+            target.append(Integer.toHexString(b & 0xff));
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean appendFloat(StringBuilder target, double value) {
+        LocaleSymbols symbols = currentLocaleSymbols();
+        if (symbols.zeroDigit != '0' || symbols.decimalSeparator != '.') {
+            return false;
+        }
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            target.append(value);
+        } else {
+            if (value < 0 || (value == 0 && Double.doubleToRawLongBits(value) != 0)) {
+                target.append('-');
+            }
+            // Same rounding as java.util.Formatter: HALF_UP, applied to the shortest decimal representation.
+            target.append(new BigDecimal(Double.toString(Math.abs(value)))
+                    .setScale(DEFAULT_FLOAT_PRECISION, RoundingMode.HALF_UP)
+                    .toPlainString());
+        }
+        return true;
+    }
+
+    private static boolean isIntegral(@Nullable Object argument) {
+        return argument instanceof Integer || argument instanceof Long
+                || argument instanceof Short || argument instanceof Byte;
+    }
+
+    private static LocaleSymbols currentLocaleSymbols() {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        LocaleSymbols symbols = localeSymbols;
+        if (symbols.locale != locale) {
+            symbols = LocaleSymbols.of(locale);
+            localeSymbols = symbols;
+        }
+        return symbols;
+    }
+
+    private static int skipDigits(String s, int position) {
+        while (position < s.length() && s.charAt(position) >= '0' && s.charAt(position) <= '9') {
+            position++;
+        }
+        return position;
+    }
+
+    private static int parseNumber(String s, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end && value < Integer.MAX_VALUE; i++) {
+            value = value * 10 + (s.charAt(i) - '0');
+        }
+        return (int) Math.min(value, Integer.MAX_VALUE);
+    }
+
+    /**
+     * The locale specific symbols the fast conversions depend on.
+     */
+    private record LocaleSymbols(Locale locale, char zeroDigit, char decimalSeparator) {
+        static LocaleSymbols of(Locale locale) {
+            DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+            return new LocaleSymbols(locale, symbols.getZeroDigit(), symbols.getDecimalSeparator());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package eu.oberon.oss.tools.i18n.formatter;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Counts the replacement candidates of all format types in a single pass over a format string. The counts are the
+ * same as those reported by {@link FormatStringType#analyze(String)} for {@link FormatStringType#STRING_FORMAT},
+ * {@link FormatStringType#LOG_FORMAT} and {@link FormatStringType#TEXT_FORMAT}, without running three regular
+ * expressions over the string.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+final class FormatStringClassifier {
+    private static final String FLAG_CHARACTERS = "-#+0,(<";
+    private static final String CONVERSION_CHARACTERS = "bBhHsScCdoxXeEfgGaA";
+
+    private FormatStringClassifier() {
+    }
+
+    /**
+     * The number of replacement candidates found per format type.
+     *
+     * @param stringFormatCount The number of {@link FormatStringType#STRING_FORMAT} specifiers.
+     * @param logFormatCount    The number of {@link FormatStringType#LOG_FORMAT} placeholders.
+     * @param textFormatCount   The number of {@link FormatStringType#TEXT_FORMAT} placeholders.
+     *
+     * @since 1.0.0
+     */
+    record Classification(int stringFormatCount, int logFormatCount, int textFormatCount) {
+        /**
+         * Returns the format type the counts point to.
+         *
+         * @param formatString The classified format string, used for reporting.
+         *
+         * @return The format type.
+         *
+         * @throws IllegalArgumentException if candidates of more than one format type were found.
+         * @since 1.0.0
+         */
+        FormatStringType formatStringType(String formatString) {
+            int typesFound = Integer.signum(stringFormatCount) + Integer.signum(logFormatCount) + Integer.signum(textFormatCount);
+            if (typesFound > 1) {
+                throw new IllegalArgumentException("Format string '" + formatString + "' is ambiguous!");
+            }
+
+            if (stringFormatCount != 0) {
+                return FormatStringType.STRING_FORMAT;
+            } else if (logFormatCount != 0) {
+                return FormatStringType.LOG_FORMAT;
+            } else if (textFormatCount != 0) {
+                return FormatStringType.TEXT_FORMAT;
+            }
+            return FormatStringType.NON_FORMATTED_STRING;
+        }
+    }
+
+    /**
+     * Classifies the format string.
+     *
+     * @param formatString The format string to classify.
+     *
+     * @return The candidate counts per format type.
+     *
+     * @since 1.0.0
+     */
+    static Classification classify(@NotNull String formatString) {
+        int stringFormatCount = 0;
+        int logFormatCount = 0;
+        int textFormatCount = 0;
+
+        int length = formatString.length();
+        int i = 0;
+        while (i < length) {
+            char c = formatString.charAt(i);
+            if (c == '%') {
+                int runEnd = i + 1;
+                while (runEnd < length && formatString.charAt(runEnd) == '%') {
+                    runEnd++;
+                }
+                int specifierEnd = ((runEnd - i) & 1) == 1 ? matchSpecifier(formatString, runEnd) : -1;
+                if (specifierEnd > 0) {
+                    stringFormatCount++;
+                    i = specifierEnd;
+                } else {
+                    i = runEnd;
+                }
+            } else if (c == '{') {
+                int digitsEnd = skipDigits(formatString, i + 1);
+                if (digitsEnd < length && formatString.charAt(digitsEnd) == '}') {
+                    if (digitsEnd == i + 1) {
+                        logFormatCount++;
+                    } else {
+                        textFormatCount++;
+                    }
+                    i = digitsEnd + 1;
+                } else {
+                    i++;
+                }
+            } else {
+                i++;
+            }
+        }
+        return new Classification(stringFormatCount, logFormatCount, textFormatCount);
+    }
+
+    // Matches '(?:\d+\$)?[-#+0,(<]*\d*(?:\.\d+)?(?:[tT][a-zA-Z]|[bBhHsScCdoxXeEfgGaA])', returns the end or -1.
+    private static int matchSpecifier(String s, int position) {
+        int length = s.length();
+        int digitsEnd = skipDigits(s, position);
+        if (digitsEnd > position && digitsEnd < length && s.charAt(digitsEnd) == '$') {
+            position = digitsEnd + 1;
+        }
+        while (position < length && FLAG_CHARACTERS.indexOf(s.charAt(position)) >= 0) {
+            position++;
+        }
+        position = skipDigits(s, position);
+        if (position < length && s.charAt(position) == '.') {
+            digitsEnd = skipDigits(s, position + 1);
+            if (digitsEnd == position + 1) {
+                return -1;
+            }
+            position = digitsEnd;
+        }
+        if (position >= length) {
+            return -1;
+        }
+        char conversion = s.charAt(position);
+        if (conversion == 't' || conversion == 'T') {
+            return position + 1 < length && isAsciiLetter(s.charAt(position + 1)) ? position + 2 : -1;
+        }
+        return CONVERSION_CHARACTERS.indexOf(conversion) >= 0 ? position + 1 : -1;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static int skipDigits(String s, int position) {
+        while (position < s.length() && s.charAt(position) >= '0' && s.charAt(position) <= '9') {
+            position++;
+        }
+        return position;
+    }
+}
@@ -24,13 +24,16 @@ public enum FormatStringType {
      * <p>
      * Placeholders in this format typically use syntax like `%s`, `%d`, etc.,
      * enabling dynamic content insertion at runtime during logging operations.
+     * Argument indexes, flags, width and precision are supported as well (e.g. `%1$s`, `%-10s`, `%5.2f`);
+     * the space flag is not recognized, so texts such as "50% done" are not taken for a format string.
+     * The `%%` and `%n` specifiers do not count as replacements.
      * <p>
      * Placeholders are replaced with dynamic content during runtime.
      * Typically used when messages need to support parameterized formatting.
      *
      * @since 1.0.0
      */
-    STRING_FORMAT(Pattern.compile("%(?:[a-z]|%\\d+(?:\\.\\d+)?[a-z])")),
+    STRING_FORMAT(Pattern.compile("(?<!%)(?:%%)*+%(?:\\d+\\$)?[-#+0,(<]*\\d*(?:\\.\\d+)?(?:[tT][a-zA-Z]|[bBhHsScCdoxXeEfgGaA])")),
 
     /**
      * Represents a message format type where the string contains placeholders
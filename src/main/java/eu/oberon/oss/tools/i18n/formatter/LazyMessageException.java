@@ -0,0 +1,65 @@
+package eu.oberon.oss.tools.i18n.formatter;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.util.function.Supplier;
+
+/**
+ * Base class for exceptions whose message is only formatted when it is requested, through {@link #getMessage()},
+ * {@link #toString()} or when the stack trace is printed. Exceptions that are caught and discarded never pay for
+ * formatting their message.
+ * <p>
+ * A {@link MessagesHelper} created for an exception class with a {@code (Supplier<String>)},
+ * {@code (Supplier<String>, Throwable)} or {@code (Supplier<String>, Throwable, boolean, boolean)} constructor passes a
+ * supplier that holds the message definition and the raw replacement parameters. This class provides those
+ * constructors; user exception classes that declare them work the same way.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+public class LazyMessageException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private transient @Nullable Supplier<String> messageSupplier;
+    private volatile @Nullable String message;
+
+    public LazyMessageException(@NotNull Supplier<String> messageSupplier) {
+        this.messageSupplier = messageSupplier;
+    }
+
+    public LazyMessageException(@NotNull Supplier<String> messageSupplier, @Nullable Throwable cause) {
+        super(null, cause);
+        this.messageSupplier = messageSupplier;
+    }
+
+    public LazyMessageException(@NotNull Supplier<String> messageSupplier, @Nullable Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(null, cause, enableSuppression, writableStackTrace);
+        this.messageSupplier = messageSupplier;
+    }
+
+    @Override
+    public String getMessage() {
+        String result = message;
+        if (result == null) {
+            Supplier<String> supplier = messageSupplier;
+            if (supplier == null) {
+                return null;
+            }
+            result = supplier.get();
+            message = result;
+        }
+        return result;
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // The supplier is not serializable, so the message is formatted before the exception is written.
+        getMessage();
+        out.defaultWriteObject();
+    }
+}
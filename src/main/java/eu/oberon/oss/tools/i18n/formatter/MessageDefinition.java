@@ -1,11 +1,14 @@
 package eu.oberon.oss.tools.i18n.formatter;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
-import org.apache.logging.log4j.message.FormattedMessage;
 import org.apache.logging.log4j.message.MessageFormatMessageFactory;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Formatter;
+
 import static eu.oberon.oss.tools.i18n.formatter.FormatStringType.*;
 
 
@@ -24,7 +27,12 @@ public class MessageDefinition implements MessageFormatter {
     private final FormatStringType formatStringType;
     private final int replacementCount;
     private final String formatString;
+    @Getter(AccessLevel.NONE)
+    private final @Nullable CompiledFormat compiledFormat;
+    private static final Object[] NO_PARAMETERS = new Object[0];
     private static final MessageFormatMessageFactory MESSAGE_FACTORY = new MessageFormatMessageFactory();
+    private static final int DEFINITION_CACHE_CAPACITY = 4096;
+    private static final MessageDefinitionCache DEFINITION_CACHE = new MessageDefinitionCache(DEFINITION_CACHE_CAPACITY);
 
     /**
      * Constructs a {@code MessageDefinition} instance, representing the format of a message string.
@@ -42,39 +50,253 @@ public class MessageDefinition implements MessageFormatter {
      * @since 1.0.0
      */
     public MessageDefinition(String formatString) {
-        int[] counters = new int[3];
+        FormatStringClassifier.Classification classification = FormatStringClassifier.classify(formatString);
+        formatStringType = classification.formatStringType(formatString);
+        compiledFormat = compile(formatString, formatStringType);
+
+        if (compiledFormat != null) {
+            replacementCount = compiledFormat.getArgumentCount();
+        } else if (formatStringType == STRING_FORMAT) {
+            replacementCount = classification.stringFormatCount();
+        } else if (formatStringType == TEXT_FORMAT) {
+            replacementCount = classification.textFormatCount();
+        } else {
+            replacementCount = 0;
+        }
+        this.formatString = formatString;
+    }
+
+    /**
+     * Constructs a {@code MessageDefinition} instance from a format string that was analyzed before, for instance
+     * when a message catalog was compiled. The format string is not classified again; the format type and the
+     * number of replacement parameters are taken as given.
+     *
+     * @param formatString     the message format string.
+     * @param formatStringType the format type of the format string.
+     * @param replacementCount the number of replacement parameters the format string expects.
+     *
+     * @since 1.0.0
+     */
+    public MessageDefinition(@NotNull String formatString, @NotNull FormatStringType formatStringType, int replacementCount) {
+        this.formatStringType = formatStringType;
+        this.compiledFormat = compile(formatString, formatStringType);
+        this.replacementCount = compiledFormat != null ? compiledFormat.getArgumentCount() : replacementCount;
+        this.formatString = formatString;
+    }
+
+    private static @Nullable CompiledFormat compile(String formatString, FormatStringType formatStringType) {
+        return switch (formatStringType) {
+            case STRING_FORMAT -> CompiledFormat.compileStringFormat(formatString);
+            case LOG_FORMAT -> CompiledFormat.compileLogFormat(formatString);
+            case TEXT_FORMAT -> CompiledFormat.compileTextFormat(formatString);
+            default -> null;
+        };
+    }
+
+    /**
+     * Returns the message definition for the given format string. Definitions are immutable, so a definition
+     * created earlier for the same format string is shared, instead of analyzing and compiling the format
+     * string again. The number of cached definitions is bounded; when the bound is reached, the cache is
+     * cleared and filled again from scratch.
+     *
+     * @param formatString the message format string, see {@link #MessageDefinition(String)}.
+     *
+     * @return The (shared) message definition for the format string.
+     *
+     * @throws IllegalArgumentException if the format string matches multiple format conventions
+     * @since 1.0.0
+     */
+    public static MessageDefinition of(@NotNull String formatString) {
+        return DEFINITION_CACHE.get(formatString);
+    }
+
+    /**
+     * Returns the hit and miss counts of the cache used by {@link #of(String)}.
+     *
+     * @return A snapshot of the cache statistics.
+     *
+     * @since 1.0.0
+     */
+    public static CacheStatistics getCacheStatistics() {
+        return DEFINITION_CACHE.getStatistics();
+    }
+
+    @Override
+    public String createFormattedMessage(@Nullable Object... replacementParameters) {
+        if (compiledFormat == null && formatStringType == NON_FORMATTED_STRING) {
+            validateReplacementParameters(replacementParameters);
+            return formatString;
+        }
 
-        counters[0] = STRING_FORMAT.analyze(formatString);
-        counters[1] = LOG_FORMAT.analyze(formatString);
-        counters[2] = TEXT_FORMAT.analyze(formatString);
+        StringBuilder builder = new StringBuilder(compiledFormat != null ? compiledFormat.getEstimatedLength() : formatString.length());
+        formatTo(builder, replacementParameters);
+        return builder.toString();
+    }
+
+    @Override
+    public void formatTo(@NotNull StringBuilder target, @Nullable Object... replacementParameters) {
+        validateReplacementParameters(replacementParameters);
 
-        int formatCounter = 0;
-        for (int i : counters) {
-            if (i > 0) formatCounter++;
+        if (compiledFormat != null) {
+            compiledFormat.render(target, replacementParameters);
+            return;
         }
 
-        if (formatCounter > 1) {
-            throw new IllegalArgumentException("Format string '" + formatString + "' is ambiguous!");
+        switch (formatStringType) {
+            case STRING_FORMAT -> new Formatter(target).format(formatString, replacementParameters);
+            case TEXT_FORMAT -> target.append(MESSAGE_FACTORY.newMessage(formatString, replacementParameters).getFormattedMessage());
+            default -> target.append(formatString);
         }
+    }
 
-        if (counters[0] != 0) {
-            formatStringType = STRING_FORMAT;
-            replacementCount = counters[0];
-        } else if (counters[1] != 0) {
-            formatStringType = LOG_FORMAT;
-            replacementCount = counters[1];
-        } else if (counters[2] != 0) {
-            formatStringType = TEXT_FORMAT;
-            replacementCount = counters[2];
-        } else {
-            formatStringType = NON_FORMATTED_STRING;
-            replacementCount = 0;
+    @Override
+    public String createFormattedMessage() {
+        if (compiledFormat == null) {
+            return createFormattedMessage(NO_PARAMETERS);
         }
-        this.formatString = formatString;
+        validateReplacementCount(0);
+        StringBuilder builder = new StringBuilder(compiledFormat.getEstimatedLength());
+        compiledFormat.render(builder, NO_PARAMETERS);
+        return builder.toString();
     }
 
     @Override
-    public String createFormattedMessage(@Nullable Object... replacementParameters) {
+    public String createFormattedMessage(@Nullable Object parameter) {
+        if (compiledFormat == null) {
+            return createFormattedMessage(new Object[]{parameter});
+        }
+        validateReplacementCount(1);
+        StringBuilder builder = new StringBuilder(compiledFormat.getEstimatedLength());
+        compiledFormat.render(builder, parameter);
+        return builder.toString();
+    }
+
+    @Override
+    public String createFormattedMessage(@Nullable Object parameter1, @Nullable Object parameter2) {
+        if (compiledFormat == null) {
+            return createFormattedMessage(new Object[]{parameter1, parameter2});
+        }
+        validateReplacementCount(2);
+        StringBuilder builder = new StringBuilder(compiledFormat.getEstimatedLength());
+        compiledFormat.render(builder, parameter1, parameter2);
+        return builder.toString();
+    }
+
+    @Override
+    public String createFormattedMessage(@Nullable Object parameter1, @Nullable Object parameter2, @Nullable Object parameter3) {
+        if (compiledFormat == null) {
+            return createFormattedMessage(new Object[]{parameter1, parameter2, parameter3});
+        }
+        validateReplacementCount(3);
+        StringBuilder builder = new StringBuilder(compiledFormat.getEstimatedLength());
+        compiledFormat.render(builder, parameter1, parameter2, parameter3);
+        return builder.toString();
+    }
+
+    @Override
+    public String createFormattedMessage(int parameter) {
+        if (compiledFormat == null) {
+            return createFormattedMessage(new Object[]{parameter});
+        }
+        validateReplacementCount(1);
+        StringBuilder builder = new StringBuilder(compiledFormat.getEstimatedLength());
+        compiledFormat.render(builder, parameter);
+        return builder.toString();
+    }
+
+    @Override
+    public String createFormattedMessage(long parameter) {
+        if (compiledFormat == null) {
+            return createFormattedMessage(new Object[]{parameter});
+        }
+        validateReplacementCount(1);
+        StringBuilder builder = new StringBuilder(compiledFormat.getEstimatedLength());
+        compiledFormat.render(builder, parameter);
+        return builder.toString();
+    }
+
+    @Override
+    public String createFormattedMessage(double parameter) {
+        if (compiledFormat == null) {
+            return createFormattedMessage(new Object[]{parameter});
+        }
+        validateReplacementCount(1);
+        StringBuilder builder = new StringBuilder(compiledFormat.getEstimatedLength());
+        compiledFormat.render(builder, parameter);
+        return builder.toString();
+    }
+
+    @Override
+    public void formatTo(@NotNull StringBuilder target) {
+        if (compiledFormat == null) {
+            formatTo(target, NO_PARAMETERS);
+            return;
+        }
+        validateReplacementCount(0);
+        compiledFormat.render(target, NO_PARAMETERS);
+    }
+
+    @Override
+    public void formatTo(@NotNull StringBuilder target, @Nullable Object parameter) {
+        if (compiledFormat == null) {
+            formatTo(target, new Object[]{parameter});
+            return;
+        }
+        validateReplacementCount(1);
+        compiledFormat.render(target, parameter);
+    }
+
+    @Override
+    public void formatTo(@NotNull StringBuilder target, @Nullable Object parameter1, @Nullable Object parameter2) {
+        if (compiledFormat == null) {
+            formatTo(target, new Object[]{parameter1, parameter2});
+            return;
+        }
+        validateReplacementCount(2);
+        compiledFormat.render(target, parameter1, parameter2);
+    }
+
+    @Override
+    public void formatTo(@NotNull StringBuilder target, @Nullable Object parameter1, @Nullable Object parameter2, @Nullable Object parameter3) {
+        if (compiledFormat == null) {
+            formatTo(target, new Object[]{parameter1, parameter2, parameter3});
+            return;
+        }
+        validateReplacementCount(3);
+        compiledFormat.render(target, parameter1, parameter2, parameter3);
+    }
+
+    @Override
+    public void formatTo(@NotNull StringBuilder target, int parameter) {
+        if (compiledFormat == null) {
+            formatTo(target, new Object[]{parameter});
+            return;
+        }
+        validateReplacementCount(1);
+        compiledFormat.render(target, parameter);
+    }
+
+    @Override
+    public void formatTo(@NotNull StringBuilder target, long parameter) {
+        if (compiledFormat == null) {
+            formatTo(target, new Object[]{parameter});
+            return;
+        }
+        validateReplacementCount(1);
+        compiledFormat.render(target, parameter);
+    }
+
+    @Override
+    public void formatTo(@NotNull StringBuilder target, double parameter) {
+        if (compiledFormat == null) {
+            formatTo(target, new Object[]{parameter});
+            return;
+        }
+        validateReplacementCount(1);
+        compiledFormat.render(target, parameter);
+    }
+
+    void validateReplacementParameters(@Nullable Object[] replacementParameters) {
         if (replacementParameters == null && replacementCount > 0) {
             throw new MessagesException("Replacement parameters are missing!");
         }
@@ -82,12 +304,11 @@ public class MessageDefinition implements MessageFormatter {
         if (replacementParameters != null && replacementParameters.length != replacementCount) {
             throw new MessagesException("Replacement parameters count mismatch! Expected " + replacementCount + ", but got " + replacementParameters.length);
         }
+    }
 
-        return switch (formatStringType) {
-            case STRING_FORMAT -> String.format(formatString, replacementParameters);
-            case TEXT_FORMAT -> MESSAGE_FACTORY.newMessage(formatString, replacementParameters).toString();
-            case LOG_FORMAT -> new FormattedMessage(formatString, replacementParameters).toString();
-            default -> formatString;
-        };
+    void validateReplacementCount(int parameterCount) {
+        if (parameterCount != replacementCount) {
+            throw new MessagesException("Replacement parameters count mismatch! Expected " + replacementCount + ", but got " + parameterCount);
+        }
     }
 }
@@ -0,0 +1,61 @@
+package eu.oberon.oss.tools.i18n.formatter;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, concurrent cache of message definitions, keyed by their format string.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+final class MessageDefinitionCache {
+    private final int capacity;
+    private final Map<String, MessageDefinition> definitions = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    MessageDefinitionCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the cached definition for the format string, creating and caching it when absent.
+     *
+     * @param formatString The format string to look up.
+     *
+     * @return The shared message definition.
+     *
+     * @throws IllegalArgumentException if the format string matches multiple format conventions
+     * @since 1.0.0
+     */
+    MessageDefinition get(@NotNull String formatString) {
+        MessageDefinition definition = definitions.get(formatString);
+        if (definition != null) {
+            hits.increment();
+            return definition;
+        }
+
+        misses.increment();
+        definition = new MessageDefinition(formatString);
+        if (definitions.size() >= capacity) {
+            definitions.clear();
+        }
+        MessageDefinition existing = definitions.putIfAbsent(formatString, definition);
+        return existing != null ? existing : definition;
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return The cache statistics.
+     *
+     * @since 1.0.0
+     */
+    CacheStatistics getStatistics() {
+        return new CacheStatistics(hits.sum(), misses.sum(), definitions.size());
+    }
+}
@@ -1,9 +1,21 @@
 package eu.oberon.oss.tools.i18n.formatter;
 
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+
 /**
- * Contract
+ * Contract for classes that format messages from a format string and replacement parameters.
+ * <p>
+ * Besides the varargs methods, arity specific variants are available for up to three parameters and for common
+ * primitive parameters. These avoid allocating a parameter array and, for the primitive variants, boxing the
+ * parameters. The {@code byte}, {@code short} and {@code float} variants box their parameter to its own wrapper type,
+ * so it is not widened and renders as it would in the varargs methods. Two primitive parameters use the
+ * {@link Object} variants, for the same reason.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
  */
 public interface MessageFormatter {
     /**
@@ -21,4 +33,364 @@ public interface MessageFormatter {
      * @since 1.0.0
      */
     String createFormattedMessage(@Nullable Object... replacementParameters);
+
+    /**
+     * Renders the formatted message directly into the target buffer, instead of returning it as a new string.
+     * The output is the same as the output of {@link #createFormattedMessage(Object...)}. The default implementation
+     * appends that output; implementations that can render into the buffer directly should override it.
+     *
+     * @param target                the buffer to append the formatted message to.
+     * @param replacementParameters the values to replace placeholders in the format string.
+     *
+     * @throws MessagesException if the replacement parameters are null, or their count does not match the expected
+     *                           count.
+     * @since 1.0.0
+     */
+    default void formatTo(@NotNull StringBuilder target, @Nullable Object... replacementParameters) {
+        target.append(createFormattedMessage(replacementParameters));
+    }
+
+    /**
+     * Renders the formatted message into the target, for targets such as a {@link java.io.Writer} or a
+     * {@link java.nio.CharBuffer}. {@link StringBuilder} targets are rendered into directly.
+     *
+     * @param target                the target to append the formatted message to.
+     * @param replacementParameters the values to replace placeholders in the format string.
+     *
+     * @throws IOException       if appending to the target fails.
+     * @throws MessagesException if the replacement parameters are null, or their count does not match the expected
+     *                           count.
+     * @since 1.0.0
+     */
+    default void formatTo(@NotNull Appendable target, @Nullable Object... replacementParameters) throws IOException {
+        if (target instanceof StringBuilder builder) {
+            formatTo(builder, replacementParameters);
+        } else {
+            StringBuilder builder = new StringBuilder();
+            formatTo(builder, replacementParameters);
+            target.append(builder);
+        }
+    }
+
+    /**
+     * Variant of {@link #createFormattedMessage(Object...)} for messages without replacement parameters, which does not
+     * require a parameter array.
+     *
+     * @return the formatted string.
+     *
+     * @throws MessagesException if the format string expects replacement parameters.
+     * @since 1.0.0
+     */
+    default String createFormattedMessage() {
+        return createFormattedMessage(new Object[0]);
+    }
+
+    /**
+     * Variant of {@link #createFormattedMessage(Object...)} for a single replacement parameter, which does not
+     * require a parameter array.
+     *
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @return the formatted string.
+     *
+     * @throws MessagesException if the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default String createFormattedMessage(@Nullable Object parameter) {
+        return createFormattedMessage(new Object[]{parameter});
+    }
+
+    /**
+     * Variant of {@link #createFormattedMessage(Object...)} for two replacement parameters, which does not
+     * require a parameter array.
+     *
+     * @param parameter1 replacement value 1.
+     * @param parameter2 replacement value 2.
+     *
+     * @return the formatted string.
+     *
+     * @throws MessagesException if the format string does not expect exactly 2 replacement parameters.
+     * @since 1.0.0
+     */
+    default String createFormattedMessage(@Nullable Object parameter1, @Nullable Object parameter2) {
+        return createFormattedMessage(new Object[]{parameter1, parameter2});
+    }
+
+    /**
+     * Variant of {@link #createFormattedMessage(Object...)} for three replacement parameters, which does not
+     * require a parameter array.
+     *
+     * @param parameter1 replacement value 1.
+     * @param parameter2 replacement value 2.
+     * @param parameter3 replacement value 3.
+     *
+     * @return the formatted string.
+     *
+     * @throws MessagesException if the format string does not expect exactly 3 replacement parameters.
+     * @since 1.0.0
+     */
+    default String createFormattedMessage(@Nullable Object parameter1, @Nullable Object parameter2, @Nullable Object parameter3) {
+        return createFormattedMessage(new Object[]{parameter1, parameter2, parameter3});
+    }
+
+    /**
+     * Variant of {@link #createFormattedMessage(Object...)} for a single {@code int} replacement parameter, which does not
+     * require a parameter array.
+     *
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @return the formatted string.
+     *
+     * @throws MessagesException if the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default String createFormattedMessage(int parameter) {
+        return createFormattedMessage(new Object[]{parameter});
+    }
+
+    /**
+     * Variant of {@link #createFormattedMessage(Object...)} for a single {@code long} replacement parameter, which does not
+     * require a parameter array.
+     *
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @return the formatted string.
+     *
+     * @throws MessagesException if the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default String createFormattedMessage(long parameter) {
+        return createFormattedMessage(new Object[]{parameter});
+    }
+
+    /**
+     * Variant of {@link #createFormattedMessage(Object...)} for a single {@code double} replacement parameter, which does not
+     * require a parameter array.
+     *
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @return the formatted string.
+     *
+     * @throws MessagesException if the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default String createFormattedMessage(double parameter) {
+        return createFormattedMessage(new Object[]{parameter});
+    }
+
+    /**
+     * Variant of {@link #createFormattedMessage(Object...)} for a single {@code char} replacement parameter, which does not
+     * require a parameter array.
+     *
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @return the formatted string.
+     *
+     * @throws MessagesException if the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default String createFormattedMessage(char parameter) {
+        return createFormattedMessage((Object) parameter);
+    }
+
+    /**
+     * Variant of {@link #createFormattedMessage(Object...)} for a single {@code byte} replacement parameter, which does not
+     * require a parameter array.
+     *
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @return the formatted string.
+     *
+     * @throws MessagesException if the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default String createFormattedMessage(byte parameter) {
+        return createFormattedMessage((Object) parameter);
+    }
+
+    /**
+     * Variant of {@link #createFormattedMessage(Object...)} for a single {@code short} replacement parameter, which does not
+     * require a parameter array.
+     *
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @return the formatted string.
+     *
+     * @throws MessagesException if the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default String createFormattedMessage(short parameter) {
+        return createFormattedMessage((Object) parameter);
+    }
+
+    /**
+     * Variant of {@link #createFormattedMessage(Object...)} for a single {@code float} replacement parameter, which does not
+     * require a parameter array.
+     *
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @return the formatted string.
+     *
+     * @throws MessagesException if the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default String createFormattedMessage(float parameter) {
+        return createFormattedMessage((Object) parameter);
+    }
+
+    /**
+     * Variant of {@link #formatTo(StringBuilder, Object...)} for messages without replacement parameters, which does not
+     * require a parameter array.
+     *
+     * @param target the buffer to append the formatted message to.
+     *
+     * @throws MessagesException if the format string expects replacement parameters.
+     * @since 1.0.0
+     */
+    default void formatTo(@NotNull StringBuilder target) {
+        formatTo(target, new Object[0]);
+    }
+
+    /**
+     * Variant of {@link #formatTo(StringBuilder, Object...)} for a single replacement parameter, which does not
+     * require a parameter array.
+     *
+     * @param target the buffer to append the formatted message to.
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @throws MessagesException if the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default void formatTo(@NotNull StringBuilder target, @Nullable Object parameter) {
+        formatTo(target, new Object[]{parameter});
+    }
+
+    /**
+     * Variant of {@link #formatTo(StringBuilder, Object...)} for two replacement parameters, which does not
+     * require a parameter array.
+     *
+     * @param target the buffer to append the formatted message to.
+     * @param parameter1 replacement value 1.
+     * @param parameter2 replacement value 2.
+     *
+     * @throws MessagesException if the format string does not expect exactly 2 replacement parameters.
+     * @since 1.0.0
+     */
+    default void formatTo(@NotNull StringBuilder target, @Nullable Object parameter1, @Nullable Object parameter2) {
+        formatTo(target, new Object[]{parameter1, parameter2});
+    }
+
+    /**
+     * Variant of {@link #formatTo(StringBuilder, Object...)} for three replacement parameters, which does not
+     * require a parameter array.
+     *
+     * @param target the buffer to append the formatted message to.
+     * @param parameter1 replacement value 1.
+     * @param parameter2 replacement value 2.
+     * @param parameter3 replacement value 3.
+     *
+     * @throws MessagesException if the format string does not expect exactly 3 replacement parameters.
+     * @since 1.0.0
+     */
+    default void formatTo(@NotNull StringBuilder target, @Nullable Object parameter1, @Nullable Object parameter2, @Nullable Object parameter3) {
+        formatTo(target, new Object[]{parameter1, parameter2, parameter3});
+    }
+
+    /**
+     * Variant of {@link #formatTo(StringBuilder, Object...)} for a single {@code int} replacement parameter, which does not
+     * require a parameter array.
+     *
+     * @param target the buffer to append the formatted message to.
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @throws MessagesException if the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default void formatTo(@NotNull StringBuilder target, int parameter) {
+        formatTo(target, new Object[]{parameter});
+    }
+
+    /**
+     * Variant of {@link #formatTo(StringBuilder, Object...)} for a single {@code long} replacement parameter, which does not
+     * require a parameter array.
+     *
+     * @param target the buffer to append the formatted message to.
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @throws MessagesException if the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default void formatTo(@NotNull StringBuilder target, long parameter) {
+        formatTo(target, new Object[]{parameter});
+    }
+
+    /**
+     * Variant of {@link #formatTo(StringBuilder, Object...)} for a single {@code double} replacement parameter, which does not
+     * require a parameter array.
+     *
+     * @param target the buffer to append the formatted message to.
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @throws MessagesException if the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default void formatTo(@NotNull StringBuilder target, double parameter) {
+        formatTo(target, new Object[]{parameter});
+    }
+
+    /**
+     * Variant of {@link #formatTo(StringBuilder, Object...)} for a single {@code char} replacement parameter, which does not
+     * require a parameter array.
+     *
+     * @param target the buffer to append the formatted message to.
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @throws MessagesException if the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default void formatTo(@NotNull StringBuilder target, char parameter) {
+        formatTo(target, (Object) parameter);
+    }
+
+    /**
+     * Variant of {@link #formatTo(StringBuilder, Object...)} for a single {@code byte} replacement parameter, which does not
+     * require a parameter array.
+     *
+     * @param target the buffer to append the formatted message to.
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @throws MessagesException if the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default void formatTo(@NotNull StringBuilder target, byte parameter) {
+        formatTo(target, (Object) parameter);
+    }
+
+    /**
+     * Variant of {@link #formatTo(StringBuilder, Object...)} for a single {@code short} replacement parameter, which does not
+     * require a parameter array.
+     *
+     * @param target the buffer to append the formatted message to.
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @throws MessagesException if the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default void formatTo(@NotNull StringBuilder target, short parameter) {
+        formatTo(target, (Object) parameter);
+    }
+
+    /**
+     * Variant of {@link #formatTo(StringBuilder, Object...)} for a single {@code float} replacement parameter, which does not
+     * require a parameter array.
+     *
+     * @param target the buffer to append the formatted message to.
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @throws MessagesException if the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default void formatTo(@NotNull StringBuilder target, float parameter) {
+        formatTo(target, (Object) parameter);
+    }
 }
@@ -4,4 +4,8 @@ public class MessagesException extends RuntimeException {
     public MessagesException(String message) {
         super(message);
     }
+
+    public MessagesException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -8,6 +8,9 @@ import org.jetbrains.annotations.Nullable;
  * An interface for handling messages through logging and exception creation. This interface
  * is designed to provide a unified mechanism for logging parameterized messages and creating
  * exceptions with formatted messages.
+ * <p>
+ * If the exception class accepts a {@code Supplier<String>} as message, such as {@link LazyMessageException}, the
+ * exception message is only formatted when it is first requested.
  *
  * @author TigerLilly64
  * @since 1.0.0
@@ -40,16 +43,186 @@ public interface MessagesHelper extends MessageFormatter {
      */
     @Nullable Level getLogLevel();
 
+    /**
+     * Returns the way exceptions are created by {@link #createExceptionWithMessage(Object...)} and
+     * {@link #createExceptionWithCause(Throwable, Object...)}. Implementations that do not choose a mode create
+     * exceptions with a stack trace.
+     *
+     * @return The exception mode; {@link ExceptionMode#STACK_TRACE} unless overridden.
+     *
+     * @since 1.0.0
+     */
+    default ExceptionMode getExceptionMode() {
+        return ExceptionMode.STACK_TRACE;
+    }
+
     /**
      * Logs a message using the provided logger with optional parameters for formatting.
      * The message format, logging level, and behavior depend on the implementation and
-     * the message definition associated with the instance.
+     * the message definition associated with the instance. The message is only formatted when the
+     * logger is enabled for the log level.
      *
      * @param logger the logger used to log the message
      * @param params optional parameters to be included in the formatted message
      */
     void logMessage(Logger logger, Object... params);
 
+    /**
+     * Variant of {@link #logMessage(Logger, Object...)} for messages without replacement parameters, which does not require a parameter
+     * array.
+     *
+     * @param logger the logger used to log the message
+     *
+     * @throws MessagesException if the message is not a loggable message, or the format string expects replacement parameters.
+     * @since 1.0.0
+     */
+    default void logMessage(Logger logger) {
+        logMessage(logger, new Object[0]);
+    }
+
+    /**
+     * Variant of {@link #logMessage(Logger, Object...)} for a single replacement parameter, which does not require a parameter
+     * array.
+     *
+     * @param logger the logger used to log the message
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @throws MessagesException if the message is not a loggable message, or the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default void logMessage(Logger logger, @Nullable Object parameter) {
+        logMessage(logger, new Object[]{parameter});
+    }
+
+    /**
+     * Variant of {@link #logMessage(Logger, Object...)} for two replacement parameters, which does not require a parameter
+     * array.
+     *
+     * @param logger the logger used to log the message
+     * @param parameter1 replacement value 1.
+     * @param parameter2 replacement value 2.
+     *
+     * @throws MessagesException if the message is not a loggable message, or the format string does not expect exactly 2 replacement parameters.
+     * @since 1.0.0
+     */
+    default void logMessage(Logger logger, @Nullable Object parameter1, @Nullable Object parameter2) {
+        logMessage(logger, new Object[]{parameter1, parameter2});
+    }
+
+    /**
+     * Variant of {@link #logMessage(Logger, Object...)} for three replacement parameters, which does not require a parameter
+     * array.
+     *
+     * @param logger the logger used to log the message
+     * @param parameter1 replacement value 1.
+     * @param parameter2 replacement value 2.
+     * @param parameter3 replacement value 3.
+     *
+     * @throws MessagesException if the message is not a loggable message, or the format string does not expect exactly 3 replacement parameters.
+     * @since 1.0.0
+     */
+    default void logMessage(Logger logger, @Nullable Object parameter1, @Nullable Object parameter2, @Nullable Object parameter3) {
+        logMessage(logger, new Object[]{parameter1, parameter2, parameter3});
+    }
+
+    /**
+     * Variant of {@link #logMessage(Logger, Object...)} for a single {@code int} replacement parameter, which does not require a parameter
+     * array. Primitive parameters are only boxed when the logger is enabled for the log level.
+     *
+     * @param logger the logger used to log the message
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @throws MessagesException if the message is not a loggable message, or the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default void logMessage(Logger logger, int parameter) {
+        logMessage(logger, new Object[]{parameter});
+    }
+
+    /**
+     * Variant of {@link #logMessage(Logger, Object...)} for a single {@code long} replacement parameter, which does not require a parameter
+     * array. Primitive parameters are only boxed when the logger is enabled for the log level.
+     *
+     * @param logger the logger used to log the message
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @throws MessagesException if the message is not a loggable message, or the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default void logMessage(Logger logger, long parameter) {
+        logMessage(logger, new Object[]{parameter});
+    }
+
+    /**
+     * Variant of {@link #logMessage(Logger, Object...)} for a single {@code double} replacement parameter, which does not require a parameter
+     * array. Primitive parameters are only boxed when the logger is enabled for the log level.
+     *
+     * @param logger the logger used to log the message
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @throws MessagesException if the message is not a loggable message, or the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default void logMessage(Logger logger, double parameter) {
+        logMessage(logger, new Object[]{parameter});
+    }
+
+    /**
+     * Variant of {@link #logMessage(Logger, Object...)} for a single {@code char} replacement parameter, which does not require a parameter
+     * array. Primitive parameters are only boxed when the logger is enabled for the log level.
+     *
+     * @param logger the logger used to log the message
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @throws MessagesException if the message is not a loggable message, or the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default void logMessage(Logger logger, char parameter) {
+        logMessage(logger, (Object) parameter);
+    }
+
+    /**
+     * Variant of {@link #logMessage(Logger, Object...)} for a single {@code byte} replacement parameter, which does not require a parameter
+     * array. Primitive parameters are only boxed when the logger is enabled for the log level.
+     *
+     * @param logger the logger used to log the message
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @throws MessagesException if the message is not a loggable message, or the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default void logMessage(Logger logger, byte parameter) {
+        logMessage(logger, (Object) parameter);
+    }
+
+    /**
+     * Variant of {@link #logMessage(Logger, Object...)} for a single {@code short} replacement parameter, which does not require a parameter
+     * array. Primitive parameters are only boxed when the logger is enabled for the log level.
+     *
+     * @param logger the logger used to log the message
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @throws MessagesException if the message is not a loggable message, or the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default void logMessage(Logger logger, short parameter) {
+        logMessage(logger, (Object) parameter);
+    }
+
+    /**
+     * Variant of {@link #logMessage(Logger, Object...)} for a single {@code float} replacement parameter, which does not require a parameter
+     * array. Primitive parameters are only boxed when the logger is enabled for the log level.
+     *
+     * @param logger the logger used to log the message
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @throws MessagesException if the message is not a loggable message, or the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default void logMessage(Logger logger, float parameter) {
+        logMessage(logger, (Object) parameter);
+    }
+
     /**
      * Creates an exception using the specified parameters to format the message.
      * The exception's type and behavior are determined by the underlying implementation.
@@ -65,6 +238,184 @@ public interface MessagesHelper extends MessageFormatter {
      */
     Exception createExceptionWithMessage(Object... params);
 
+    /**
+     * Variant of {@link #createExceptionWithMessage(Object...)} for messages without replacement parameters, which does not require a parameter
+     * array.
+     *
+     *
+     * @return an instance of an Exception subclass with a formatted message
+     *
+     * @throws MessagesException if the message is not intended for exception creation, the exception creation runs
+     *                           into an error, or the format string expects replacement parameters.
+     * @since 1.0.0
+     */
+    default Exception createExceptionWithMessage() {
+        return createExceptionWithMessage(new Object[0]);
+    }
+
+    /**
+     * Variant of {@link #createExceptionWithMessage(Object...)} for a single replacement parameter, which does not require a parameter
+     * array.
+     *
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @return an instance of an Exception subclass with a formatted message
+     *
+     * @throws MessagesException if the message is not intended for exception creation, the exception creation runs
+     *                           into an error, or the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default Exception createExceptionWithMessage(@Nullable Object parameter) {
+        return createExceptionWithMessage(new Object[]{parameter});
+    }
+
+    /**
+     * Variant of {@link #createExceptionWithMessage(Object...)} for two replacement parameters, which does not require a parameter
+     * array.
+     *
+     * @param parameter1 replacement value 1.
+     * @param parameter2 replacement value 2.
+     *
+     * @return an instance of an Exception subclass with a formatted message
+     *
+     * @throws MessagesException if the message is not intended for exception creation, the exception creation runs
+     *                           into an error, or the format string does not expect exactly 2 replacement parameters.
+     * @since 1.0.0
+     */
+    default Exception createExceptionWithMessage(@Nullable Object parameter1, @Nullable Object parameter2) {
+        return createExceptionWithMessage(new Object[]{parameter1, parameter2});
+    }
+
+    /**
+     * Variant of {@link #createExceptionWithMessage(Object...)} for three replacement parameters, which does not require a parameter
+     * array.
+     *
+     * @param parameter1 replacement value 1.
+     * @param parameter2 replacement value 2.
+     * @param parameter3 replacement value 3.
+     *
+     * @return an instance of an Exception subclass with a formatted message
+     *
+     * @throws MessagesException if the message is not intended for exception creation, the exception creation runs
+     *                           into an error, or the format string does not expect exactly 3 replacement parameters.
+     * @since 1.0.0
+     */
+    default Exception createExceptionWithMessage(@Nullable Object parameter1, @Nullable Object parameter2, @Nullable Object parameter3) {
+        return createExceptionWithMessage(new Object[]{parameter1, parameter2, parameter3});
+    }
+
+    /**
+     * Variant of {@link #createExceptionWithMessage(Object...)} for a single {@code int} replacement parameter, which does not require a parameter
+     * array.
+     *
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @return an instance of an Exception subclass with a formatted message
+     *
+     * @throws MessagesException if the message is not intended for exception creation, the exception creation runs
+     *                           into an error, or the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default Exception createExceptionWithMessage(int parameter) {
+        return createExceptionWithMessage(new Object[]{parameter});
+    }
+
+    /**
+     * Variant of {@link #createExceptionWithMessage(Object...)} for a single {@code long} replacement parameter, which does not require a parameter
+     * array.
+     *
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @return an instance of an Exception subclass with a formatted message
+     *
+     * @throws MessagesException if the message is not intended for exception creation, the exception creation runs
+     *                           into an error, or the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default Exception createExceptionWithMessage(long parameter) {
+        return createExceptionWithMessage(new Object[]{parameter});
+    }
+
+    /**
+     * Variant of {@link #createExceptionWithMessage(Object...)} for a single {@code double} replacement parameter, which does not require a parameter
+     * array.
+     *
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @return an instance of an Exception subclass with a formatted message
+     *
+     * @throws MessagesException if the message is not intended for exception creation, the exception creation runs
+     *                           into an error, or the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default Exception createExceptionWithMessage(double parameter) {
+        return createExceptionWithMessage(new Object[]{parameter});
+    }
+
+    /**
+     * Variant of {@link #createExceptionWithMessage(Object...)} for a single {@code char} replacement parameter, which does not require a parameter
+     * array.
+     *
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @return an instance of an Exception subclass with a formatted message
+     *
+     * @throws MessagesException if the message is not intended for exception creation, the exception creation runs
+     *                           into an error, or the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default Exception createExceptionWithMessage(char parameter) {
+        return createExceptionWithMessage((Object) parameter);
+    }
+
+    /**
+     * Variant of {@link #createExceptionWithMessage(Object...)} for a single {@code byte} replacement parameter, which does not require a parameter
+     * array.
+     *
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @return an instance of an Exception subclass with a formatted message
+     *
+     * @throws MessagesException if the message is not intended for exception creation, the exception creation runs
+     *                           into an error, or the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default Exception createExceptionWithMessage(byte parameter) {
+        return createExceptionWithMessage((Object) parameter);
+    }
+
+    /**
+     * Variant of {@link #createExceptionWithMessage(Object...)} for a single {@code short} replacement parameter, which does not require a parameter
+     * array.
+     *
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @return an instance of an Exception subclass with a formatted message
+     *
+     * @throws MessagesException if the message is not intended for exception creation, the exception creation runs
+     *                           into an error, or the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default Exception createExceptionWithMessage(short parameter) {
+        return createExceptionWithMessage((Object) parameter);
+    }
+
+    /**
+     * Variant of {@link #createExceptionWithMessage(Object...)} for a single {@code float} replacement parameter, which does not require a parameter
+     * array.
+     *
+     * @param parameter the value to replace the placeholder(s) in the format string.
+     *
+     * @return an instance of an Exception subclass with a formatted message
+     *
+     * @throws MessagesException if the message is not intended for exception creation, the exception creation runs
+     *                           into an error, or the format string does not expect exactly one replacement parameter.
+     * @since 1.0.0
+     */
+    default Exception createExceptionWithMessage(float parameter) {
+        return createExceptionWithMessage((Object) parameter);
+    }
+
     /**
      * @param cause  The exception that was the reason for the raising for this exception
      * @param params the parameters used to format the exception message
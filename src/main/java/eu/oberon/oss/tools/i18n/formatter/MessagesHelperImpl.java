@@ -7,7 +7,11 @@ import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.util.function.Supplier;
 
 /**
  * A default implementation for the {@link MessagesHelper} interface.
@@ -23,47 +27,101 @@ public class MessagesHelperImpl implements MessagesHelper {
     private final @Nullable String exceptionClassName;
     @Getter
     private final @Nullable Level logLevel;
+    @Getter
+    private final ExceptionMode exceptionMode;
+
+    private static final MethodType STANDARD_FACTORY_TYPE = MethodType.methodType(Exception.class, Object.class);
+    private static final MethodType CAUSE_FACTORY_TYPE = MethodType.methodType(Exception.class, Object.class, Throwable.class);
+    private static final MethodType FULL_FACTORY_TYPE = MethodType.methodType(Exception.class, Object.class, Throwable.class, boolean.class, boolean.class);
 
-    private @Nullable Constructor<? extends Exception> standardConstructor = null;
-    private @Nullable Constructor<? extends Exception> throwableException = null;
-    private @Nullable Constructor<? extends Exception> fullConstructor = null;
+    // Constructor handles adapted to the factory types above, so they can be called through invokeExact. The message
+    // argument is a String, or a Supplier<String> when the exception class accepts lazily formatted messages.
+    private final boolean lazyMessages;
+    private final @Nullable MethodHandle standardConstructor;
+    private final @Nullable MethodHandle throwableException;
+    private final @Nullable MethodHandle fullConstructor;
+    private final @Nullable Exception preallocatedException;
 
     public MessagesHelperImpl(String formatString) {
-        this(formatString, null, null);
+        this(formatString, null, null, ExceptionMode.STACK_TRACE);
     }
 
     public MessagesHelperImpl(String formatString, Level logLevel) {
-        this(formatString, null, logLevel);
+        this(formatString, null, logLevel, ExceptionMode.STACK_TRACE);
     }
 
     public MessagesHelperImpl(String formatString, Class<? extends Exception> exceptionClass) {
-        this(formatString, exceptionClass, null);
+        this(formatString, exceptionClass, null, ExceptionMode.STACK_TRACE);
     }
 
-    private MessagesHelperImpl(String formatString, @Nullable Class<? extends Exception> exceptionClass, @Nullable Level logLevel) {
+    /**
+     * Creates a helper for exception messages, which creates its exceptions following the given mode.
+     *
+     * @param formatString   The message format string.
+     * @param exceptionClass The exception class to create.
+     * @param exceptionMode  The way exceptions are created.
+     *
+     * @throws MessagesException if the exception class does not have the constructors the mode requires.
+     * @since 1.0.0
+     */
+    public MessagesHelperImpl(String formatString, Class<? extends Exception> exceptionClass, ExceptionMode exceptionMode) {
+        this(formatString, exceptionClass, null, exceptionMode);
+    }
+
+    private MessagesHelperImpl(String formatString, @Nullable Class<? extends Exception> exceptionClass, @Nullable Level logLevel, ExceptionMode exceptionMode) {
         if (exceptionClass != null && Exception.class.isAssignableFrom(exceptionClass)) {
-            standardConstructor = createConstructor(exceptionClass, String.class);
-            throwableException = createConstructor(exceptionClass, String.class, Throwable.class);
-            fullConstructor = createConstructor(exceptionClass, String.class, Throwable.class, boolean.class, boolean.class);
+            lazyMessages = hasSupplierConstructor(exceptionClass);
+            Class<?> messageType = lazyMessages ? Supplier.class : String.class;
+            standardConstructor = createConstructor(exceptionClass, messageType, STANDARD_FACTORY_TYPE);
+            throwableException = createConstructor(exceptionClass, messageType, CAUSE_FACTORY_TYPE);
+            fullConstructor = createConstructor(exceptionClass, messageType, FULL_FACTORY_TYPE);
             exceptionClassName = exceptionClass.getCanonicalName();
             if (standardConstructor == null && throwableException == null && fullConstructor == null) {
                 throw new MessagesException(exceptionClassName + " does not have any suitable constructor.");
             }
+            if (exceptionMode != ExceptionMode.STACK_TRACE && fullConstructor == null) {
+                throw new MessagesException(exceptionClassName + ".getConstructor(String,Throwable,boolean,boolean) does not exist, required by " + exceptionMode);
+            }
         } else {
+            lazyMessages = false;
+            standardConstructor = null;
+            throwableException = null;
+            fullConstructor = null;
             exceptionClassName = null;
         }
         this.logLevel = logLevel;
-        messageDefinition = new MessageDefinition(formatString);
+        this.exceptionMode = exceptionMode;
+        messageDefinition = MessageDefinition.of(formatString);
+
+        if (exceptionMode == ExceptionMode.PREALLOCATED && exceptionClassName != null && messageDefinition.getReplacementCount() == 0) {
+            preallocatedException = newStandardException(message(null));
+        } else {
+            preallocatedException = null;
+        }
+    }
+
+    private static boolean hasSupplierConstructor(Class<? extends Exception> exceptionClass) {
+        for (Constructor<?> constructor : exceptionClass.getConstructors()) {
+            if (constructor.getParameterCount() > 0 && constructor.getParameterTypes()[0] == Supplier.class) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private static Constructor<? extends Exception> createConstructor(Class<? extends Exception> exceptionClass, Class<?>... parameterTypes) {
+    private static @Nullable MethodHandle createConstructor(Class<? extends Exception> exceptionClass, Class<?> messageType, MethodType factoryType) {
+        MethodType constructorType = factoryType.changeReturnType(void.class).changeParameterType(0, messageType);
         try {
-            return exceptionClass.getConstructor(parameterTypes);
-        } catch (NoSuchMethodException e) {
-            StringBuilder builder = new StringBuilder("Exception class has no constructor: ")
+            return MethodHandles.publicLookup()
+                    .findConstructor(exceptionClass, constructorType)
+                    .asType(factoryType);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            StringBuilder builder = new StringBuilder("Exception class has no ")
+                    .append(e instanceof IllegalAccessException ? "accessible " : "")
+                    .append("constructor: ")
                     .append(exceptionClass.getName()
                     );
-            for (Class<?> parameterType : parameterTypes) {
+            for (Class<?> parameterType : constructorType.parameterList()) {
                 builder.append(", ").append(parameterType.getName());
             }
             LOGGER.info("{}", builder);
@@ -77,35 +135,321 @@ public class MessagesHelperImpl implements MessagesHelper {
     }
 
     @Override
-    @SuppressWarnings("java:S2629")
+    public void formatTo(@NotNull StringBuilder target, @Nullable Object... replacementParameters) {
+        messageDefinition.formatTo(target, replacementParameters);
+    }
+
+    @Override
+    public String createFormattedMessage() {
+        return messageDefinition.createFormattedMessage();
+    }
+
+    @Override
+    public String createFormattedMessage(@Nullable Object parameter) {
+        return messageDefinition.createFormattedMessage(parameter);
+    }
+
+    @Override
+    public String createFormattedMessage(@Nullable Object parameter1, @Nullable Object parameter2) {
+        return messageDefinition.createFormattedMessage(parameter1, parameter2);
+    }
+
+    @Override
+    public String createFormattedMessage(@Nullable Object parameter1, @Nullable Object parameter2, @Nullable Object parameter3) {
+        return messageDefinition.createFormattedMessage(parameter1, parameter2, parameter3);
+    }
+
+    @Override
+    public String createFormattedMessage(int parameter) {
+        return messageDefinition.createFormattedMessage(parameter);
+    }
+
+    @Override
+    public String createFormattedMessage(long parameter) {
+        return messageDefinition.createFormattedMessage(parameter);
+    }
+
+    @Override
+    public String createFormattedMessage(double parameter) {
+        return messageDefinition.createFormattedMessage(parameter);
+    }
+
+    @Override
+    public void formatTo(@NotNull StringBuilder target) {
+        messageDefinition.formatTo(target);
+    }
+
+    @Override
+    public void formatTo(@NotNull StringBuilder target, @Nullable Object parameter) {
+        messageDefinition.formatTo(target, parameter);
+    }
+
+    @Override
+    public void formatTo(@NotNull StringBuilder target, @Nullable Object parameter1, @Nullable Object parameter2) {
+        messageDefinition.formatTo(target, parameter1, parameter2);
+    }
+
+    @Override
+    public void formatTo(@NotNull StringBuilder target, @Nullable Object parameter1, @Nullable Object parameter2, @Nullable Object parameter3) {
+        messageDefinition.formatTo(target, parameter1, parameter2, parameter3);
+    }
+
+    @Override
+    public void formatTo(@NotNull StringBuilder target, int parameter) {
+        messageDefinition.formatTo(target, parameter);
+    }
+
+    @Override
+    public void formatTo(@NotNull StringBuilder target, long parameter) {
+        messageDefinition.formatTo(target, parameter);
+    }
+
+    @Override
+    public void formatTo(@NotNull StringBuilder target, double parameter) {
+        messageDefinition.formatTo(target, parameter);
+    }
+
+    @Override
     public void logMessage(@NotNull Logger logger, @Nullable Object... params) {
         if (logLevel == null) {
             throw new MessagesException("Message is NOT a loggable message.");
         }
-        logger.log(logLevel, messageDefinition.createFormattedMessage(params));
+        messageDefinition.validateReplacementParameters(params);
+        if (!logger.isEnabled(logLevel)) {
+            return;
+        }
+
+        ReusableDefinitionMessage message = ReusableDefinitionMessage.acquire(messageDefinition, params);
+        try {
+            logger.log(logLevel, message);
+        } finally {
+            message.release();
+        }
+    }
+
+    @Override
+    public void logMessage(@NotNull Logger logger) {
+        if (isEnabled(logger, 0)) {
+            log(logger, 0, null, null, null);
+        }
+    }
+
+    @Override
+    public void logMessage(@NotNull Logger logger, @Nullable Object parameter) {
+        if (isEnabled(logger, 1)) {
+            log(logger, 1, parameter, null, null);
+        }
+    }
+
+    @Override
+    public void logMessage(@NotNull Logger logger, @Nullable Object parameter1, @Nullable Object parameter2) {
+        if (isEnabled(logger, 2)) {
+            log(logger, 2, parameter1, parameter2, null);
+        }
+    }
+
+    @Override
+    public void logMessage(@NotNull Logger logger, @Nullable Object parameter1, @Nullable Object parameter2, @Nullable Object parameter3) {
+        if (isEnabled(logger, 3)) {
+            log(logger, 3, parameter1, parameter2, parameter3);
+        }
+    }
+
+    @Override
+    public void logMessage(@NotNull Logger logger, int parameter) {
+        if (isEnabled(logger, 1)) {
+            log(logger, 1, parameter, null, null);
+        }
+    }
+
+    @Override
+    public void logMessage(@NotNull Logger logger, long parameter) {
+        if (isEnabled(logger, 1)) {
+            log(logger, 1, parameter, null, null);
+        }
+    }
+
+    @Override
+    public void logMessage(@NotNull Logger logger, double parameter) {
+        if (isEnabled(logger, 1)) {
+            log(logger, 1, parameter, null, null);
+        }
+    }
+
+    @Override
+    public void logMessage(@NotNull Logger logger, char parameter) {
+        if (isEnabled(logger, 1)) {
+            log(logger, 1, parameter, null, null);
+        }
+    }
+
+    @Override
+    public void logMessage(@NotNull Logger logger, byte parameter) {
+        if (isEnabled(logger, 1)) {
+            log(logger, 1, parameter, null, null);
+        }
+    }
+
+    @Override
+    public void logMessage(@NotNull Logger logger, short parameter) {
+        if (isEnabled(logger, 1)) {
+            log(logger, 1, parameter, null, null);
+        }
+    }
+
+    @Override
+    public void logMessage(@NotNull Logger logger, float parameter) {
+        if (isEnabled(logger, 1)) {
+            log(logger, 1, parameter, null, null);
+        }
+    }
+
+    private boolean isEnabled(Logger logger, int parameterCount) {
+        if (logLevel == null) {
+            throw new MessagesException("Message is NOT a loggable message.");
+        }
+        messageDefinition.validateReplacementCount(parameterCount);
+        return logger.isEnabled(logLevel);
+    }
+
+    private void log(Logger logger, int parameterCount, @Nullable Object parameter1, @Nullable Object parameter2, @Nullable Object parameter3) {
+        ReusableDefinitionMessage message = ReusableDefinitionMessage.acquire(messageDefinition, parameterCount, parameter1, parameter2, parameter3);
+        try {
+            logger.log(logLevel, message);
+        } finally {
+            message.release();
+        }
     }
 
     @Override
     public Exception createExceptionWithMessage(Object... params) {
-        if (standardConstructor == null) {
+        if (preallocatedException != null && (params == null || params.length == 0)) {
+            return preallocatedException;
+        }
+        requireStandardConstructor();
+        return newStandardException(message(params));
+    }
+
+    @Override
+    public Exception createExceptionWithMessage() {
+        if (lazyMessages) {
+            return createExceptionWithMessage(new Object[0]);
+        }
+        if (preallocatedException != null) {
+            return preallocatedException;
+        }
+        requireStandardConstructor();
+        return newStandardException(messageDefinition.createFormattedMessage());
+    }
+
+    @Override
+    public Exception createExceptionWithMessage(@Nullable Object parameter) {
+        if (lazyMessages) {
+            return createExceptionWithMessage(new Object[]{parameter});
+        }
+        requireStandardConstructor();
+        return newStandardException(messageDefinition.createFormattedMessage(parameter));
+    }
+
+    @Override
+    public Exception createExceptionWithMessage(@Nullable Object parameter1, @Nullable Object parameter2) {
+        if (lazyMessages) {
+            return createExceptionWithMessage(new Object[]{parameter1, parameter2});
+        }
+        requireStandardConstructor();
+        return newStandardException(messageDefinition.createFormattedMessage(parameter1, parameter2));
+    }
+
+    @Override
+    public Exception createExceptionWithMessage(@Nullable Object parameter1, @Nullable Object parameter2, @Nullable Object parameter3) {
+        if (lazyMessages) {
+            return createExceptionWithMessage(new Object[]{parameter1, parameter2, parameter3});
+        }
+        requireStandardConstructor();
+        return newStandardException(messageDefinition.createFormattedMessage(parameter1, parameter2, parameter3));
+    }
+
+    @Override
+    public Exception createExceptionWithMessage(int parameter) {
+        if (lazyMessages) {
+            return createExceptionWithMessage(new Object[]{parameter});
+        }
+        requireStandardConstructor();
+        return newStandardException(messageDefinition.createFormattedMessage(parameter));
+    }
+
+    @Override
+    public Exception createExceptionWithMessage(long parameter) {
+        if (lazyMessages) {
+            return createExceptionWithMessage(new Object[]{parameter});
+        }
+        requireStandardConstructor();
+        return newStandardException(messageDefinition.createFormattedMessage(parameter));
+    }
+
+    @Override
+    public Exception createExceptionWithMessage(double parameter) {
+        if (lazyMessages) {
+            return createExceptionWithMessage(new Object[]{parameter});
+        }
+        requireStandardConstructor();
+        return newStandardException(messageDefinition.createFormattedMessage(parameter));
+    }
+
+    @Override
+    public Exception createExceptionWithMessage(char parameter) {
+        if (lazyMessages) {
+            return createExceptionWithMessage(new Object[]{parameter});
+        }
+        requireStandardConstructor();
+        return newStandardException(messageDefinition.createFormattedMessage((Object) parameter));
+    }
+
+    private void requireStandardConstructor() {
+        if (exceptionMode == ExceptionMode.STACK_TRACE ? standardConstructor == null : fullConstructor == null) {
             throw new MessagesException("Message is not to be used in an exception.");
         }
+    }
+
+    /**
+     * Returns the message argument for an exception constructor: the formatted message, or a supplier formatting the
+     * message on first use when the exception class accepts lazily formatted messages.
+     */
+    private Object message(@Nullable Object[] params) {
+        if (lazyMessages) {
+            return new DeferredMessage(messageDefinition, params);
+        }
+        return messageDefinition.createFormattedMessage(params);
+    }
+
+    private Exception newStandardException(Object message) {
         try {
-            return standardConstructor.newInstance(messageDefinition.createFormattedMessage(params));
-        } catch (Exception e) {
-            throw new MessagesException("Failure instantiating exception: {}");
+            if (exceptionMode != ExceptionMode.STACK_TRACE) {
+                return (Exception) fullConstructor.invokeExact(message, (Throwable) null, false, false);
+            }
+            return (Exception) standardConstructor.invokeExact(message);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new MessagesException("Failed to create instance of exception: " + exceptionClassName, e);
         }
     }
 
     @Override
     public Exception createExceptionWithCause(Throwable cause, Object... params) {
+        if (exceptionMode != ExceptionMode.STACK_TRACE) {
+            return createExceptionFullParameters(cause, false, false, params);
+        }
         if (throwableException == null) {
             throw new MessagesException(exceptionClassName + ".getConstructor(String,Throwable) does not exist.");
         }
+        Object message = message(params);
         try {
-            return throwableException.newInstance(createFormattedMessage(params), cause);
-        } catch (Exception e) {
-            throw new MessagesException("Failed to create instance of exception: " + exceptionClassName);
+            return (Exception) throwableException.invokeExact(message, cause);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new MessagesException("Failed to create instance of exception: " + exceptionClassName, e);
         }
     }
 
@@ -114,10 +458,13 @@ public class MessagesHelperImpl implements MessagesHelper {
         if (fullConstructor == null) {
             throw new MessagesException(exceptionClassName + ".getConstructor(String,Throwable,boolean,boolean) does not exist.");
         }
+        Object message = message(params);
         try {
-            return fullConstructor.newInstance(createFormattedMessage(params), cause, enableSuppression, writableStackTrace);
-        } catch (Exception e) {
-            throw new MessagesException("Failed to create instance of exception: " + exceptionClassName);
+            return (Exception) fullConstructor.invokeExact(message, cause, enableSuppression, writableStackTrace);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new MessagesException("Failed to create instance of exception: " + exceptionClassName, e);
         }
     }
 }
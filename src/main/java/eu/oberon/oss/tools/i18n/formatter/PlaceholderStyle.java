@@ -0,0 +1,85 @@
+package eu.oberon.oss.tools.i18n.formatter;
+
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.util.StringBuilders;
+import org.jetbrains.annotations.Nullable;
+
+import java.text.DateFormat;
+import java.text.NumberFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * Argument rendering for the placeholder based format types.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+enum PlaceholderStyle implements ArgumentFormat {
+    /**
+     * Renders arguments the way Log4j renders the parameters of a {@link ParameterizedMessage}: simple types are
+     * appended directly, arrays, collections and maps are rendered deeply and dates are rendered in ISO format.
+     *
+     * @since 1.0.0
+     */
+    LOG_STYLE {
+        @Override
+        public void appendTo(StringBuilder target, @Nullable Object argument) {
+            if (!StringBuilders.appendSpecificTypes(target, argument)) {
+                target.append(ParameterizedMessage.deepToString(argument));
+            }
+        }
+
+        @Override
+        public void appendTo(StringBuilder target, int argument) {
+            target.append(argument);
+        }
+
+        @Override
+        public void appendTo(StringBuilder target, long argument) {
+            target.append(argument);
+        }
+
+        @Override
+        public void appendTo(StringBuilder target, double argument) {
+            target.append(argument);
+        }
+    },
+
+    /**
+     * Renders arguments the way {@link java.text.MessageFormat} renders an argument without format type: numbers
+     * and dates are formatted for the default format locale, all other arguments are rendered as a string.
+     *
+     * @since 1.0.0
+     */
+    TEXT_STYLE {
+        @Override
+        public void appendTo(StringBuilder target, @Nullable Object argument) {
+            if (argument instanceof String string) {
+                target.append(string);
+            } else if (argument instanceof Number number) {
+                target.append(NumberFormat.getInstance(Locale.getDefault(Locale.Category.FORMAT)).format(number));
+            } else if (argument instanceof Date date) {
+                target.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT,
+                        Locale.getDefault(Locale.Category.FORMAT)).format(date));
+            } else {
+                target.append(argument);
+            }
+        }
+
+        @Override
+        public void appendTo(StringBuilder target, int argument) {
+            target.append(NumberFormat.getInstance(Locale.getDefault(Locale.Category.FORMAT)).format(argument));
+        }
+
+        @Override
+        public void appendTo(StringBuilder target, long argument) {
+            target.append(NumberFormat.getInstance(Locale.getDefault(Locale.Category.FORMAT)).format(argument));
+        }
+
+        @Override
+        public void appendTo(StringBuilder target, double argument) {
+            target.append(NumberFormat.getInstance(Locale.getDefault(Locale.Category.FORMAT)).format(argument));
+        }
+    }
+}
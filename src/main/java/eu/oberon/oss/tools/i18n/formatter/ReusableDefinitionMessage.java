@@ -0,0 +1,171 @@
+package eu.oberon.oss.tools.i18n.formatter;
+
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ReusableMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * A Log4j {@link ReusableMessage} that renders a {@link MessageDefinition} with its replacement parameters. The
+ * message is only rendered when Log4j needs the text, and it is rendered straight into Log4j's own buffer
+ * through {@link #formatTo(StringBuilder)}.
+ * <p>
+ * One instance is kept per thread. Log4j copies the text, or takes a {@link #memento()}, before
+ * {@link org.apache.logging.log4j.Logger#log(org.apache.logging.log4j.Level, Message)} returns, so the instance can
+ * be reused for the next message logged on the same thread.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+final class ReusableDefinitionMessage implements ReusableMessage {
+    private static final Object[] NO_PARAMETERS = new Object[0];
+    private static final ThreadLocal<ReusableDefinitionMessage> THREAD_MESSAGE = ThreadLocal.withInitial(ReusableDefinitionMessage::new);
+
+    private @Nullable MessageDefinition definition;
+    private Object[] parameters = NO_PARAMETERS;
+    private int inlineCount = -1;
+    private @Nullable Object parameter1;
+    private @Nullable Object parameter2;
+    private @Nullable Object parameter3;
+    private boolean reserved;
+
+    private ReusableDefinitionMessage() {
+    }
+
+    /**
+     * Returns the message instance of the current thread, initialized with the definition and parameters. If the
+     * thread's instance is in use (a parameter logs while it is being rendered), a new instance is returned.
+     * The instance must be handed back through {@link #release()} once the log call returns.
+     *
+     * @param definition The message definition to render.
+     * @param parameters The replacement parameters, validated against the definition.
+     *
+     * @return The initialized message.
+     *
+     * @since 1.0.0
+     */
+    static ReusableDefinitionMessage acquire(@NotNull MessageDefinition definition, @Nullable Object[] parameters) {
+        ReusableDefinitionMessage message = reserve(definition);
+        message.parameters = parameters != null ? parameters : NO_PARAMETERS;
+        return message;
+    }
+
+    /**
+     * Returns the message instance of the current thread, initialized with the definition and up to three
+     * parameters, which are held in fields instead of an array. See {@link #acquire(MessageDefinition, Object[])}.
+     *
+     * @param definition     The message definition to render.
+     * @param parameterCount The number of parameters used, 0 to 3.
+     * @param parameter1     The first parameter, if used.
+     * @param parameter2     The second parameter, if used.
+     * @param parameter3     The third parameter, if used.
+     *
+     * @return The initialized message.
+     *
+     * @since 1.0.0
+     */
+    static ReusableDefinitionMessage acquire(@NotNull MessageDefinition definition, int parameterCount,
+                                             @Nullable Object parameter1, @Nullable Object parameter2, @Nullable Object parameter3) {
+        ReusableDefinitionMessage message = reserve(definition);
+        message.inlineCount = parameterCount;
+        message.parameter1 = parameter1;
+        message.parameter2 = parameter2;
+        message.parameter3 = parameter3;
+        return message;
+    }
+
+    private static ReusableDefinitionMessage reserve(MessageDefinition definition) {
+        ReusableDefinitionMessage message = THREAD_MESSAGE.get();
+        if (message.reserved) {
+            message = new ReusableDefinitionMessage();
+        }
+        message.reserved = true;
+        message.definition = definition;
+        return message;
+    }
+
+    /**
+     * Clears the message, so it neither holds on to the parameters nor blocks reuse.
+     *
+     * @since 1.0.0
+     */
+    void release() {
+        definition = null;
+        parameters = NO_PARAMETERS;
+        inlineCount = -1;
+        parameter1 = null;
+        parameter2 = null;
+        parameter3 = null;
+        reserved = false;
+    }
+
+    @Override
+    public void formatTo(StringBuilder buffer) {
+        if (definition == null) {
+            return;
+        }
+        switch (inlineCount) {
+            case 0 -> definition.formatTo(buffer);
+            case 1 -> definition.formatTo(buffer, parameter1);
+            case 2 -> definition.formatTo(buffer, parameter1, parameter2);
+            case 3 -> definition.formatTo(buffer, parameter1, parameter2, parameter3);
+            default -> definition.formatTo(buffer, parameters);
+        }
+    }
+
+    @Override
+    public String getFormattedMessage() {
+        if (definition == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        formatTo(builder);
+        return builder.toString();
+    }
+
+    @Override
+    public String getFormat() {
+        return definition != null ? definition.getFormatString() : "";
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return inlineCount >= 0 ? inlineParameters() : Arrays.copyOf(parameters, parameters.length);
+    }
+
+    @Override
+    public @Nullable Throwable getThrowable() {
+        return null;
+    }
+
+    @Override
+    public Object[] swapParameters(Object[] emptyReplacement) {
+        // The parameters belong to the caller, so they are copied rather than handed over.
+        Object[] source = inlineCount >= 0 ? inlineParameters() : parameters;
+        Object[] result = emptyReplacement.length >= source.length ? emptyReplacement : new Object[source.length];
+        System.arraycopy(source, 0, result, 0, source.length);
+        return result;
+    }
+
+    @Override
+    public short getParameterCount() {
+        return (short) (inlineCount >= 0 ? inlineCount : parameters.length);
+    }
+
+    private Object[] inlineParameters() {
+        return switch (inlineCount) {
+            case 0 -> NO_PARAMETERS;
+            case 1 -> new Object[]{parameter1};
+            case 2 -> new Object[]{parameter1, parameter2};
+            default -> new Object[]{parameter1, parameter2, parameter3};
+        };
+    }
+
+    @Override
+    public Message memento() {
+        return new SimpleMessage(getFormattedMessage());
+    }
+}
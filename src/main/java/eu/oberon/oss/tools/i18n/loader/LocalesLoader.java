@@ -8,11 +8,21 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IllformedLocaleException;
+import java.util.List;
 import java.util.Locale;
 import java.util.Locale.Builder;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static eu.oberon.oss.tools.i18n.cc.CountryCodeTableLookupKeys.ISO3166_ALPHA_2;
 
@@ -25,6 +35,7 @@ import static eu.oberon.oss.tools.i18n.cc.CountryCodeTableLookupKeys.ISO3166_ALP
  */
 @Log4j2
 public class LocalesLoader {
+    private static final String PROPERTIES_EXTENSION = ".properties";
     private static final CountryCodeTable COUNTRY_CODE_TABLE;
 
     static {
@@ -47,37 +58,167 @@ public class LocalesLoader {
      *
      * @return A set of Locale(s) for which a representation was found the directory
      *
+     * @throws IllegalStateException if the directory holds no property files of the bundle.
+     * @throws UncheckedIOException  if the directory cannot be read.
      * @since 1.0.0
      */
     public static Set<Locale> loadLocales(String baseName, File directory) {
+        return loadLocales(baseName, directory, false);
+    }
 
-        Set<Locale> locales = new HashSet<>();
+    /**
+     * Reads the specified directory and creates a set of locales based on the filenames in the directory, optionally
+     * converting the file names to locales in parallel. The directory is read as a stream, without creating a
+     * {@link File} per entry, and each file name is matched once.
+     *
+     * @param baseName  The basename of the resource bundle property file(s) in the specified directory
+     * @param directory The directory to read the files from.
+     * @param parallel  <b>True</b> to convert the file names to locales in parallel, for directories holding many
+     *                  files of the bundle.
+     *
+     * @return A set of Locale(s) for which a representation was found the directory
+     *
+     * @throws IllegalStateException if the directory holds no property files of the bundle.
+     * @throws UncheckedIOException  if the directory cannot be read.
+     * @since 1.0.0
+     */
+    public static Set<Locale> loadLocales(String baseName, File directory, boolean parallel) {
+        Set<Locale> locales = findLocales(baseName, directory.toPath(), parallel);
+        if (locales.isEmpty()) {
+            throw new IllegalStateException("No files in directory " + directory);
+        }
+        return locales;
+    }
 
+    /**
+     * Reads the specified directory and creates a set of locales based on the filenames in the directory, as
+     * {@link #loadLocales(String, File, boolean)}. The directory may be part of any file system, for instance a
+     * directory in a jar file, and a directory without property files of the bundle results in an empty set.
+     *
+     * @param baseName  The basename of the resource bundle property file(s) in the specified directory
+     * @param directory The directory to read the files from.
+     * @param parallel  <b>True</b> to convert the file names to locales in parallel.
+     *
+     * @return A set of Locale(s) for which a representation was found the directory, which may be empty.
+     *
+     * @throws UncheckedIOException if the directory cannot be read.
+     * @since 1.0.0
+     */
+    public static Set<Locale> findLocales(String baseName, Path directory, boolean parallel) {
         PropertyFileFilter fileFilter = new PropertyFileFilter(baseName);
+        Set<String> suffixes = new HashSet<>();
+        for (String fileName : listPropertyFiles(directory)) {
+            String suffix = fileFilter.localeSuffixOf(fileName);
+            if (suffix != null) {
+                suffixes.add(suffix);
+            }
+        }
 
-        final File[] files = directory.listFiles(fileFilter);
-        if (files != null) {
-            if (files.length == 0) {
-                throw new IllegalStateException("No files in directory " + directory);
+        Stream<String> stream = parallel ? suffixes.parallelStream() : suffixes.stream();
+        Set<Locale> locales = stream.map(LocalesLoader::toLocale).collect(Collectors.toSet());
+        LOGGER.debug("Found {} locales for bundle '{}' in '{}'", locales.size(), baseName, directory);
+        return locales;
+    }
+
+    /**
+     * Discovers all bundles in the specified directory in a single pass, with the locales available for each bundle.
+     * <p>
+     * As base names may contain underscores themselves, the base name of a file ends before the first underscore that
+     * is followed by a two or three letter language code and is preceded by the name of a root property file in the
+     * directory. A file without such an underscore is a root property file, whose whole name is the base name, so
+     * {@code my_app.properties} and {@code my_app_nl.properties} form the bundle {@code my_app}. Localized files are
+     * therefore only attributed to a bundle if the directory holds its root property file. Files whose locale part is
+     * not a valid locale are skipped.
+     *
+     * @param directory The directory to read the files from.
+     *
+     * @return An immutable map holding the available locales per base name.
+     *
+     * @throws UncheckedIOException if the directory cannot be read.
+     * @since 1.0.0
+     */
+    public static Map<String, Set<Locale>> discoverBundles(File directory) {
+        List<String> names = new ArrayList<>();
+        for (String fileName : listPropertyFiles(directory.toPath())) {
+            names.add(fileName.substring(0, fileName.length() - PROPERTIES_EXTENSION.length()));
+        }
+        Set<String> rootNames = new HashSet<>(names);
+
+        // Bundles in one directory share most of their locales, so each locale part is converted once.
+        Map<String, Locale> localesBySuffix = new HashMap<>();
+        Map<String, Set<Locale>> bundles = new HashMap<>();
+        for (String name : names) {
+            int separator = baseNameEnd(name, rootNames);
+            String suffix = separator < name.length() ? name.substring(separator + 1) : "";
+            Locale locale;
+            try {
+                locale = localesBySuffix.computeIfAbsent(suffix, LocalesLoader::toLocale);
+            } catch (IllegalArgumentException | IllformedLocaleException e) {
+                // A shared directory may hold unrelated files; skip those rather than failing the whole directory.
+                LOGGER.debug("Skipping '{}{}' in '{}', '{}' is not a valid locale", name, PROPERTIES_EXTENSION, directory, suffix, e);
+                continue;
             }
-            for (File file : files) {
-                if ((baseName + ".properties").contentEquals(file.getName())) {
-                    processData(locales, new String[0], baseName);
-                }
-                Matcher matcher = fileFilter.getPattern().matcher(file.getName());
-                //noinspection ResultOfMethodCallIgnored - we need to invoke the matcher to be able to use it.
-                matcher.matches();
-                processData(locales, matcher.group(1).split("_"), baseName);
+            bundles.computeIfAbsent(name.substring(0, separator), baseName -> new HashSet<>()).add(locale);
+        }
+
+        Map<String, Set<Locale>> result = new HashMap<>();
+        bundles.forEach((baseName, locales) -> result.put(baseName, Set.copyOf(locales)));
+        LOGGER.debug("Found {} bundles in '{}'", result.size(), directory);
+        return Map.copyOf(result);
+    }
+
+    private static int baseNameEnd(String name, Set<String> rootNames) {
+        int separator = name.indexOf('_');
+        while (separator >= 0) {
+            if (isLanguageAt(name, separator + 1) && rootNames.contains(name.substring(0, separator))) {
+                return separator;
             }
+            separator = name.indexOf('_', separator + 1);
         }
-        return locales;
+        return name.length();
     }
 
-    private static void processData(final Set<Locale> locales, final String[] strings, final String baseName) {
+    private static boolean isLanguageAt(String name, int start) {
+        int end = name.indexOf('_', start);
+        if (end < 0) {
+            end = name.length();
+        }
+        if (end - start < 2 || end - start > 3) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = name.charAt(i);
+            if ((c < 'a' || c > 'z') && (c < 'A' || c > 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> listPropertyFiles(Path directory) {
+        List<String> fileNames = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + PROPERTIES_EXTENSION)) {
+            for (Path path : stream) {
+                fileNames.add(path.getFileName().toString());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read directory " + directory, e);
+        }
+        return fileNames;
+    }
+
+    /**
+     * Converts the locale part of a property file name, such as {@code nl_BE}, to a locale.
+     *
+     * @param suffix The locale part, or an empty string for the root locale.
+     *
+     * @return The locale.
+     */
+    private static Locale toLocale(String suffix) {
+        String[] strings = suffix.isEmpty() ? new String[0] : suffix.split("_");
         Builder builder = new Builder();
         switch (strings.length) {
             case 0:
-                LOGGER.info("Default property file is present for basename '{}'", baseName);
                 break;
             case 1:
                 // language
@@ -101,8 +242,7 @@ public class LocalesLoader {
             default:
                 throw new IllegalArgumentException();
         }
-        final Locale locale = builder.build();
-        locales.add(locale);
+        return builder.build();
     }
 
     private static void setRegionOrScript(Builder builder, String string) {
@@ -0,0 +1,269 @@
+package eu.oberon.oss.tools.i18n.loader;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads property files directly into immutable maps, without going through a class loader, a {@link java.io.Reader}
+ * or a synchronized {@link java.util.Properties} table.
+ * <p>
+ * The file is read in one go through a {@link FileChannel} and parsed in a single pass, following the syntax of
+ * {@link java.util.Properties#load(java.io.Reader)}: comment lines, line continuations, the '=', ':' and whitespace
+ * separators and the escape sequences, including {@code \\uXXXX}. Like {@link java.util.PropertyResourceBundle}, files
+ * are read as UTF-8, falling back to ISO-8859-1 if the file is not valid UTF-8.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
+public final class PropertiesParser {
+    private final char[] data;
+    private final int limit;
+    private int position;
+    private char[] line = new char[128];
+    private final StringBuilder converted = new StringBuilder();
+
+    private PropertiesParser(char[] data, int start, int limit) {
+        this.data = data;
+        this.position = start;
+        this.limit = limit;
+    }
+
+    /**
+     * Reads and parses a property file.
+     *
+     * @param file The file to read.
+     *
+     * @return An immutable map holding the properties of the file.
+     *
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the file contains a malformed {@code \\uXXXX} escape sequence.
+     * @since 1.0.0
+     */
+    public static Map<String, String> parse(@NotNull Path file) throws IOException {
+        ByteBuffer bytes;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Property file '" + file + "' is too large");
+            }
+            bytes = ByteBuffer.allocate((int) size);
+            while (bytes.hasRemaining() && channel.read(bytes) >= 0) {
+                // keep reading until the buffer is full or the end of the file is reached
+            }
+            bytes.flip();
+        }
+        return parse(bytes);
+    }
+
+    /**
+     * Parses the content of a property file.
+     *
+     * @param bytes The content, read as UTF-8, or as ISO-8859-1 if it is not valid UTF-8.
+     *
+     * @return An immutable map holding the properties.
+     *
+     * @throws IllegalArgumentException if the content contains a malformed {@code \\uXXXX} escape sequence.
+     * @since 1.0.0
+     */
+    public static Map<String, String> parse(@NotNull ByteBuffer bytes) {
+        CharBuffer chars = decode(bytes);
+        return new PropertiesParser(chars.array(), chars.arrayOffset() + chars.position(), chars.arrayOffset() + chars.limit()).parse();
+    }
+
+    /**
+     * Parses properties held in a string.
+     *
+     * @param content The properties.
+     *
+     * @return An immutable map holding the properties.
+     *
+     * @throws IllegalArgumentException if the content contains a malformed {@code \\uXXXX} escape sequence.
+     * @since 1.0.0
+     */
+    public static Map<String, String> parse(@NotNull String content) {
+        return new PropertiesParser(content.toCharArray(), 0, content.length()).parse();
+    }
+
+    private static CharBuffer decode(ByteBuffer bytes) {
+        try {
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(bytes.duplicate());
+        } catch (CharacterCodingException e) {
+            return StandardCharsets.ISO_8859_1.decode(bytes.duplicate());
+        }
+    }
+
+    private Map<String, String> parse() {
+        Map<String, String> properties = new HashMap<>();
+        int length;
+        while ((length = readLine()) >= 0) {
+            int keyLength = 0;
+            int valueStart = length;
+            boolean hasSeparator = false;
+            boolean precedingBackslash = false;
+            while (keyLength < length) {
+                char c = line[keyLength];
+                if ((c == '=' || c == ':') && !precedingBackslash) {
+                    valueStart = keyLength + 1;
+                    hasSeparator = true;
+                    break;
+                } else if (isWhitespace(c) && !precedingBackslash) {
+                    valueStart = keyLength + 1;
+                    break;
+                }
+                precedingBackslash = c == '\\' && !precedingBackslash;
+                keyLength++;
+            }
+            while (valueStart < length) {
+                char c = line[valueStart];
+                if (!isWhitespace(c)) {
+                    if (!hasSeparator && (c == '=' || c == ':')) {
+                        hasSeparator = true;
+                    } else {
+                        break;
+                    }
+                }
+                valueStart++;
+            }
+            properties.put(convert(0, keyLength), convert(valueStart, length));
+        }
+        return Map.copyOf(properties);
+    }
+
+    /**
+     * Reads the next logical line into the line buffer: leading whitespace, comment lines and blank lines are skipped
+     * and continuation lines are joined.
+     *
+     * @return The length of the line, or -1 at the end of the data.
+     */
+    private int readLine() {
+        int length = 0;
+        boolean skipWhitespace = true;
+        boolean appendedLineBegin = false;
+        boolean precedingBackslash = false;
+        boolean skipLineFeed = false;
+
+        while (position < limit) {
+            char c = data[position++];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (c == '\n') {
+                    continue;
+                }
+            }
+            if (skipWhitespace) {
+                if (isWhitespace(c) || (!appendedLineBegin && (c == '\r' || c == '\n'))) {
+                    continue;
+                }
+                skipWhitespace = false;
+                appendedLineBegin = false;
+            }
+            if (length == 0 && (c == '#' || c == '!')) {
+                skipComment();
+                skipWhitespace = true;
+                continue;
+            }
+
+            if (c != '\n' && c != '\r') {
+                if (length == line.length) {
+                    char[] larger = new char[line.length * 2];
+                    System.arraycopy(line, 0, larger, 0, length);
+                    line = larger;
+                }
+                line[length++] = c;
+                precedingBackslash = c == '\\' && !precedingBackslash;
+            } else if (precedingBackslash) {
+                // The backslash is not part of the line, the next line continues it.
+                length--;
+                skipWhitespace = true;
+                appendedLineBegin = true;
+                precedingBackslash = false;
+                skipLineFeed = c == '\r';
+            } else if (length > 0) {
+                return length;
+            } else {
+                skipWhitespace = true;
+            }
+        }
+        if (length == 0) {
+            return -1;
+        }
+        return precedingBackslash ? length - 1 : length;
+    }
+
+    private void skipComment() {
+        while (position < limit) {
+            char c = data[position];
+            if (c == '\n' || c == '\r') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private String convert(int start, int end) {
+        converted.setLength(0);
+        int offset = start;
+        while (offset < end) {
+            char c = line[offset++];
+            if (c != '\\') {
+                converted.append(c);
+                continue;
+            }
+            if (offset >= end) {
+                break;
+            }
+            c = line[offset++];
+            switch (c) {
+                case 'u' -> {
+                    if (offset > end - 4) {
+                        throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+                    }
+                    int value = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = hexDigit(line[offset++]);
+                        if (digit < 0) {
+                            throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+                        }
+                        value = (value << 4) | digit;
+                    }
+                    converted.append((char) value);
+                }
+                case 't' -> converted.append('\t');
+                case 'r' -> converted.append('\r');
+                case 'n' -> converted.append('\n');
+                case 'f' -> converted.append('\f');
+                default -> converted.append(c);
+            }
+        }
+        return converted.toString();
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        } else if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        } else if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+}
@@ -1,25 +1,51 @@
 package eu.oberon.oss.tools.i18n.loader;
 
 import lombok.Getter;
-import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.FileFilter;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-@Log4j2
+/**
+ * Selects the property files of a single bundle: the file {@code <baseName>.properties} and the files
+ * {@code <baseName>_<locale>.properties}. The base name is matched literally, so it may contain characters that have a
+ * meaning in regular expressions, and files of other bundles whose base name starts with the same text are not
+ * selected.
+ *
+ * @author TigerLilly64
+ * @since 1.0.0
+ */
 class PropertyFileFilter implements FileFilter {
     @Getter
     private final Pattern pattern;
 
     PropertyFileFilter(String baseName) {
-        pattern = Pattern.compile(baseName + "_?(.*?)" + "\\.properties");
+        pattern = Pattern.compile(Pattern.quote(baseName) + "(?:_(.+))?\\.properties");
     }
 
     @Override
     public boolean accept(File pathname) {
-        boolean match = pattern.matcher(pathname.getName()).matches();
-        LOGGER.info("File '{}': {} for pattern '{}'", pathname, match ? "Matches" : "Doesn't match", pattern);
         return pattern.matcher(pathname.getName()).matches();
     }
+
+    /**
+     * Returns the locale part of the file name of a bundle file, matching the file name once.
+     *
+     * @param fileName The file name.
+     *
+     * @return The locale part, an empty string for the root file of the bundle, or {@literal <null>} if the file is
+     *         not a file of the bundle.
+     *
+     * @since 1.0.0
+     */
+    @Nullable String localeSuffixOf(String fileName) {
+        Matcher matcher = pattern.matcher(fileName);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String suffix = matcher.group(1);
+        return suffix == null ? "" : suffix;
+    }
 }
@@ -0,0 +1,44 @@
+package eu.oberon.oss.tools.i18n;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BundleWatcherTest {
+    @TempDir
+    private Path directory;
+
+    @ParameterizedTest
+    @CsvSource({
+            "Default.properties, true",
+            "Default_nl.properties, true",
+            "Default_nl_NL.properties, true",
+            "DefaultExtra.properties, false",
+            "DefaultExtra_en.properties, false",
+            "Default_.properties, false",
+            "Default.properties.bak, false",
+            "Default.txt, false"
+    })
+    void testIsBundleFile(String fileName, boolean expected) throws IOException {
+        try (BundleWatcher watcher = new BundleWatcher(directory, "Default", changedFiles -> fail("No files were changed"))) {
+            assertEquals(expected, watcher.isBundleFile(Path.of(fileName)));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "Default.Extra.properties, true",
+            "Default.Extra_de.properties, true",
+            "DefaultXExtra.properties, false"
+    })
+    void testBaseNameIsMatchedLiterally(String fileName, boolean expected) throws IOException {
+        try (BundleWatcher watcher = new BundleWatcher(directory, "Default.Extra", changedFiles -> fail("No files were changed"))) {
+            assertEquals(expected, watcher.isBundleFile(Path.of(fileName)));
+        }
+    }
+}
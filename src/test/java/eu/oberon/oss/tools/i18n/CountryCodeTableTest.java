@@ -9,9 +9,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -58,6 +60,130 @@ class CountryCodeTableTest {
         assertNull(cct.findEntry("-11", UNM49));
     }
 
+    @Test
+    void primitiveLookupsMatchStringLookupsTest() {
+        for (String name : cct.getAvailableLookupValues(NAME)) {
+            CountryCodeTableEntry entry = cct.findEntry(name, NAME);
+            String alpha2 = entry.iso3166Alpha2Code();
+            String alpha3 = entry.iso3166Alpha3Code();
+            assertSame(cct.findEntry(alpha2, ISO3166_ALPHA_2), cct.findByAlpha2(alpha2.charAt(0), alpha2.charAt(1)));
+            assertSame(cct.findEntry(alpha2, ISO3166_ALPHA_2), cct.findByAlpha2(new StringBuilder(alpha2)));
+            assertSame(cct.findEntry(alpha3, ISO3166_ALPHA_3), cct.findByAlpha3(alpha3.charAt(0), alpha3.charAt(1), alpha3.charAt(2)));
+            assertSame(cct.findEntry(alpha3, ISO3166_ALPHA_3), cct.findByAlpha3(new StringBuilder(alpha3)));
+            assertSame(cct.findEntry(entry.unm49Code(), UNM49), cct.findByUnm49(Integer.parseInt(entry.unm49Code())));
+        }
+    }
+
+    @Test
+    void lookupAtOffsetTest() {
+        CharSequence line = "528;NLD;NL;Netherlands";
+        CountryCodeTableEntry nl = cct.findEntry("NL", ISO3166_ALPHA_2);
+        assertSame(nl, cct.findByUnm49(line, 0));
+        assertSame(nl, cct.findByAlpha3(line, 4));
+        assertSame(nl, cct.findByAlpha2(line, 8));
+        assertSame(nl, cct.findByUnm49(528));
+        assertThrows(IndexOutOfBoundsException.class, () -> cct.findByAlpha3(line, line.length() - 2));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "N", "nl", "N1", "NL ", "[L", "@L"})
+    void invalidAlpha2CodeTest(String code) {
+        assertNull(cct.findByAlpha2(code));
+        assertNull(cct.findEntry(code, ISO3166_ALPHA_2));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "NL", "nld", "NLDX", "N_D", "ZZZ"})
+    void invalidAlpha3CodeTest(String code) {
+        assertNull(cct.findByAlpha3(code));
+        assertNull(cct.findEntry(code, ISO3166_ALPHA_3));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 999, 1000, Integer.MAX_VALUE, Integer.MIN_VALUE})
+    void invalidUnm49CodeTest(int code) {
+        assertNull(cct.findByUnm49(code));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "52", "5280", "52a", "-11", " 28", "000"})
+    void invalidUnm49CodeStringTest(String code) {
+        assertNull(cct.findByUnm49(code));
+        assertNull(cct.findEntry(code, UNM49));
+    }
+
+    public static Stream<Arguments> findByNamePrefixTest() {
+        return Stream.of(
+                Arguments.of("Nether", List.of("NL")),
+                Arguments.of("netherlands", List.of("NL")),
+                Arguments.of("  NETHERLANDS (THE) ", List.of("NL")),
+                Arguments.of("cote d'iv", List.of("CI")),
+                Arguments.of("CÔTE", List.of("CI")),
+                Arguments.of("åland", List.of("AX")),
+                Arguments.of("united", List.of("AE", "GB", "UM", "US", "TZ")),
+                Arguments.of("united s", List.of("UM", "US")),
+                Arguments.of("kingdom", List.of("GB")),
+                Arguments.of("korea", List.of("KP", "KR")),
+                Arguments.of("xyz", List.of()),
+                Arguments.of("", List.of()),
+                Arguments.of("()", List.of())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void findByNamePrefixTest(String prefix, List<String> expectedCodes) {
+        assertEquals(expectedCodes, cct.findByNamePrefix(prefix, 10).stream().map(CountryCodeTableEntry::iso3166Alpha2Code).toList());
+    }
+
+    @Test
+    void findByNamePrefixLimitTest() {
+        assertEquals(List.of("AE", "GB"), cct.findByNamePrefix("united", 2).stream().map(CountryCodeTableEntry::iso3166Alpha2Code).toList());
+        assertEquals(List.of(), cct.findByNamePrefix("united", 0));
+        assertEquals(10, cct.findByNamePrefix("s", 10).size());
+    }
+
+    @Test
+    void findByNamePrefixGroupOrderTest() {
+        List<CountryCodeTableEntry> found = cct.findByNamePrefix("isl", 100);
+        assertEquals("Isle of Man", found.get(0).countryName());
+        List<String> wordMatches = found.stream().skip(1).map(CountryCodeTableEntry::countryName).toList();
+        assertFalse(wordMatches.isEmpty());
+        assertEquals(wordMatches.stream().sorted().toList(), wordMatches);
+
+        List<String> limited = cct.findByNamePrefix("isl", 4).stream().skip(1).map(CountryCodeTableEntry::countryName).toList();
+        assertEquals(wordMatches.subList(0, 3), limited);
+    }
+
+    public static Stream<Arguments> findByApproximateNameTest() {
+        return Stream.of(
+                Arguments.of("netherlnds", 1, "NL"),
+                Arguments.of("nehterlands", 2, "NL"),
+                Arguments.of("germny", 1, "DE"),
+                Arguments.of("Belgum", 1, "BE"),
+                Arguments.of("swizerland", 1, "CH"),
+                Arguments.of("cote divoire", 1, "CI"),
+                Arguments.of("nether", 0, "NL")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void findByApproximateNameTest(String query, int maxDistance, String expectedCode) {
+        List<CountryCodeTableEntry> found = cct.findByApproximateName(query, maxDistance, 5);
+        assertFalse(found.isEmpty());
+        assertEquals(expectedCode, found.get(0).iso3166Alpha2Code());
+    }
+
+    @Test
+    void findByApproximateNameBoundsTest() {
+        assertEquals(List.of(), cct.findByApproximateName("qqqqqqqq", 2, 5));
+        assertEquals(List.of(), cct.findByApproximateName("", 2, 5));
+        assertEquals(cct.findByNamePrefix("united", 10), cct.findByApproximateName("united", 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> cct.findByApproximateName("united", -1, 10));
+        assertEquals(3, cct.findByApproximateName("x", Integer.MAX_VALUE, 3).size());
+    }
+
     @Test
     void defaultInstanceTest() throws IOException {
         CountryCodeTable cct1 = assertDoesNotThrow(CountryCodeTable::getDefaultInstance);
@@ -0,0 +1,103 @@
+package eu.oberon.oss.tools.i18n;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyCatalogTest {
+    private static final List<BundleSource> SOURCES = List.of(BundleSource.directory(new File("src/test/resources/set-1/")));
+    private static final Locale DUTCH = Locale.forLanguageTag("nl");
+    private static final Locale DUTCH_NETHERLANDS = Locale.forLanguageTag("nl-NL");
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "nl", "nl-NL", "nl-BE-1331", "en", "de", "fr"})
+    void testSameMessagesAsEagerCatalog(String languageTag) throws IOException {
+        Locale locale = Locale.forLanguageTag(languageTag);
+        Catalog eager = Catalog.load("Default", SOURCES);
+        LazyCatalog lazy = LazyCatalog.create("Default", SOURCES, Long.MAX_VALUE);
+
+        assertEquals(eager.getLocales(), lazy.getLocales());
+        Locale tableLocale = new LocaleFallback("Default", eager.getLocales(), Locale.ROOT).resolve(locale);
+        assertEquals(eager.getTable(tableLocale).getMessages(), lazy.getTable(tableLocale).getMessages());
+    }
+
+    @Test
+    void testTablesAreLoadedOnFirstAccess() throws IOException {
+        LazyCatalog lazy = LazyCatalog.create("Default", SOURCES, Long.MAX_VALUE);
+        assertTrue(lazy.getLoadedLocales().isEmpty());
+        assertNull(lazy.getTable(Locale.FRENCH));
+
+        LocaleTable table = lazy.getTable(DUTCH);
+        assertSame(table, lazy.getTable(DUTCH));
+        assertEquals(Set.of(DUTCH), lazy.getLoadedLocales());
+        assertEquals(1, lazy.getLoadCount());
+    }
+
+    @Test
+    void testLeastRecentlyUsedTablesAreEvicted() throws IOException {
+        LazyCatalog unbounded = LazyCatalog.create("Default", SOURCES, Long.MAX_VALUE);
+        long budget = unbounded.getTable(DUTCH).getEstimatedSize() + unbounded.getTable(DUTCH_NETHERLANDS).getEstimatedSize()
+                + unbounded.getTable(Locale.ENGLISH).getEstimatedSize() - 1;
+        LazyCatalog lazy = LazyCatalog.create("Default", SOURCES, budget);
+
+        LocaleTable dutch = lazy.getTable(DUTCH);
+        lazy.getTable(DUTCH_NETHERLANDS);
+        lazy.getTable(DUTCH);
+        lazy.getTable(Locale.ENGLISH);
+        assertEquals(Set.of(DUTCH, Locale.ENGLISH), lazy.getLoadedLocales());
+        assertSame(dutch, lazy.getTable(DUTCH));
+
+        assertEquals("NL_nl standaard key1 waarde", lazy.getTable(DUTCH_NETHERLANDS).getString("key1a"));
+        assertEquals(4, lazy.getLoadCount());
+
+        LazyCatalog tiny = LazyCatalog.create("Default", SOURCES, 1);
+        tiny.getTable(DUTCH);
+        tiny.getTable(Locale.ENGLISH);
+        assertEquals(Set.of(Locale.ENGLISH), tiny.getLoadedLocales());
+    }
+
+    @Test
+    void testConcurrentFirstAccessLoadsOnce() throws IOException, InterruptedException {
+        LazyCatalog lazy = LazyCatalog.create("Default", SOURCES, Long.MAX_VALUE);
+        Set<LocaleTable> tables = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        for (int i = 0; i < 16; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    tables.add(lazy.getTable(DUTCH_NETHERLANDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(1, tables.size());
+        assertEquals(1, lazy.getLoadCount());
+    }
+
+    @Test
+    void testLazyResolver() throws IOException {
+        MessageBundleResolver resolver = new MessageBundleResolverImpl("Default", SOURCES, 64 * 1024);
+        assertTrue(resolver.isLocaleAvailable(DUTCH_NETHERLANDS));
+        assertEquals("Hallo wereld!", resolver.getFormattedString(DUTCH_NETHERLANDS, "greeting", "wereld"));
+        assertEquals("default key1 value", resolver.getString(Locale.FRENCH, "key1"));
+    }
+}
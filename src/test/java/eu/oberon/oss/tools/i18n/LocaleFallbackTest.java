@@ -0,0 +1,76 @@
+package eu.oberon.oss.tools.i18n;
+
+import nl.altindag.log.LogCaptor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocaleFallbackTest {
+    private static final Set<Locale> TABLE_LOCALES = Stream.of("nl", "nl-NL", "nl-BE-1331", "nl-Text", "nl-Text-NL", "en", "de")
+            .map(tag -> new Locale.Builder().setLanguageTag(tag).build())
+            .collect(Collectors.toSet());
+
+    @ParameterizedTest
+    @CsvSource({
+            "nl-NL, nl-NL",
+            "nl-BE, nl",
+            "nl-BE-1331, nl-BE-1331",
+            "nl-NL-1331, nl-NL",
+            "nl-Text-BE, nl-Text",
+            "nl-Text-NL-1331, nl-Text-NL",
+            "nl-Zyyy-NL, nl-NL",
+            "en-US, en",
+            "fr-FR, und",
+            "und, und"
+    })
+    void testResolve(String requested, String expected) {
+        LocaleFallback fallback = new LocaleFallback("Default", TABLE_LOCALES, Locale.ROOT);
+        assertEquals(Locale.forLanguageTag(expected), fallback.resolve(Locale.forLanguageTag(requested)));
+    }
+
+    @Test
+    void testFallbackLocale() {
+        assertEquals(Locale.ENGLISH, new LocaleFallback("Default", TABLE_LOCALES, Locale.forLanguageTag("en-GB")).resolve(Locale.FRANCE));
+        assertEquals(Locale.ROOT, new LocaleFallback("Default", TABLE_LOCALES, Locale.JAPANESE).resolve(Locale.FRANCE));
+        assertEquals(Locale.forLanguageTag("de"), new LocaleFallback("Default", TABLE_LOCALES, Locale.GERMAN).resolve(Locale.forLanguageTag("de-CH")));
+    }
+
+    @Test
+    void testMissingLocaleIsLoggedOnce() {
+        LocaleFallback fallback = new LocaleFallback("Default", TABLE_LOCALES, Locale.ENGLISH);
+        try (LogCaptor logCaptor = LogCaptor.forClass(LocaleFallback.class)) {
+            for (int i = 0; i < 100; i++) {
+                assertEquals(Locale.ENGLISH, fallback.resolve(Locale.FRANCE));
+                assertEquals(Locale.ROOT, fallback.resolve(Locale.ROOT));
+                assertEquals(Locale.forLanguageTag("nl"), fallback.resolve(Locale.forLanguageTag("nl-BE")));
+            }
+            assertEquals(List.of("Locale 'fr_FR' is not available, reverted to locale 'en'"), logCaptor.getWarnLogs());
+        }
+    }
+
+    @Test
+    void testResolverFallbackLocale() throws IOException {
+        File directory = new File("src/test/resources/set-1/");
+        MessageBundleResolverImpl resolver = new MessageBundleResolverImpl("Default", directory);
+        assertEquals(Locale.ROOT, resolver.getFallbackLocale());
+        assertEquals(Locale.ROOT, resolver.loadMessageResourceBundle(Locale.FRENCH));
+        assertEquals(0, resolver.getGeneration());
+
+        resolver.setFallbackLocale(Locale.ENGLISH);
+        assertEquals(1, resolver.getGeneration());
+        assertEquals(Locale.ENGLISH, resolver.loadMessageResourceBundle(Locale.FRENCH));
+        assertEquals(resolver.getString(Locale.ENGLISH, "key1"), resolver.getString(Locale.FRENCH, "key1"));
+        assertEquals(new Locale.Builder().setLanguageTag("nl-Text").build(),
+                resolver.loadMessageResourceBundle(new Locale.Builder().setLanguageTag("nl-Text-BE").build()));
+    }
+}
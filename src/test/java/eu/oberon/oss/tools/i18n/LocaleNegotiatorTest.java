@@ -0,0 +1,115 @@
+package eu.oberon.oss.tools.i18n;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocaleNegotiatorTest {
+    private static final File DIRECTORY = new File("src/test/resources/set-1/");
+
+    @TempDir
+    private Path directory;
+
+    public static Stream<Arguments> testNegotiate() {
+        return Stream.of(
+                Arguments.of("nl-NL", "nl-NL"),
+                Arguments.of("nl-BE,nl;q=0.9,en;q=0.5", "nl"),
+                Arguments.of("fr-FR,fr;q=0.9,en-US;q=0.8,en;q=0.7", "en"),
+                Arguments.of("en;q=0.5,de;q=0.8", "de"),
+                Arguments.of("en-US", "en"),
+                Arguments.of("de;q=0,en", "en"),
+                Arguments.of("fr, ja", ""),
+                Arguments.of("*", ""),
+                Arguments.of("en;q=invalid", ""),
+                Arguments.of("", ""),
+                Arguments.of(null, "")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testNegotiate(String acceptLanguage, String expectedTag) throws IOException {
+        LocaleNegotiator negotiator = new LocaleNegotiator(new MessageBundleResolverImpl("Default", DIRECTORY), 16);
+        Locale expected = Locale.forLanguageTag(expectedTag);
+        assertEquals(expected, negotiator.negotiate(acceptLanguage));
+        assertEquals(expected, negotiator.negotiate(acceptLanguage));
+    }
+
+    @Test
+    void testCacheIsBounded() throws IOException {
+        MessageBundleResolver resolver = new MappedMessageBundleResolver(compileCatalog());
+        LocaleNegotiator negotiator = new LocaleNegotiator(resolver, 2);
+        Locale dutch = negotiator.negotiate("nl-BE");
+        assertSame(dutch, negotiator.negotiate("nl-BE"));
+        negotiator.negotiate("en");
+        negotiator.negotiate("de");
+        negotiator.negotiate("nl-NL");
+        assertEquals(2, negotiator.getCacheSize());
+        assertEquals(Locale.forLanguageTag("nl"), negotiator.negotiate("nl-BE"));
+        assertThrows(IllegalArgumentException.class, () -> new LocaleNegotiator(resolver, 0));
+    }
+
+    @Test
+    void testUnmatchedHeadersSelectTheFallbackLocale() throws IOException {
+        MessageBundleResolverImpl resolver = new MessageBundleResolverImpl("Default", DIRECTORY);
+        LocaleNegotiator negotiator = new LocaleNegotiator(resolver, 16);
+        assertEquals(Locale.ROOT, negotiator.negotiate("fr-FR,fr;q=0.9"));
+
+        resolver.setFallbackLocale(Locale.ENGLISH);
+        Locale locale = negotiator.negotiate("fr-FR,fr;q=0.9");
+        assertEquals(Locale.ENGLISH, locale);
+        assertEquals(resolver.getString(Locale.FRENCH, "key1"), resolver.getString(locale, "key1"));
+        assertEquals(Locale.ENGLISH, negotiator.negotiate(null));
+        assertEquals(Locale.ENGLISH, negotiator.negotiate("en;q=invalid"));
+        assertEquals(Locale.forLanguageTag("nl"), negotiator.negotiate("nl-BE"));
+    }
+
+    @Test
+    void testCacheIsClearedWhenLocalesChange() throws IOException, InterruptedException {
+        Files.writeString(directory.resolve("Messages.properties"), "key=value\n");
+        Files.writeString(directory.resolve("Messages_nl.properties"), "key=waarde\n");
+        Locale german = Locale.forLanguageTag("de");
+        try (MessageBundleResolverImpl watching = new MessageBundleResolverImpl("Messages", directory.toFile(), true)) {
+            LocaleNegotiator negotiator = new LocaleNegotiator(watching, 16);
+            assertEquals(Locale.forLanguageTag("nl"), negotiator.negotiate("de-AT,nl;q=0.5"));
+            assertSame(watching.getAvailableLocales(), watching.getAvailableLocales());
+
+            Files.writeString(directory.resolve("Messages_de.properties"), "key=Wert\n");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (!watching.isLocaleAvailable(german) && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals(german, negotiator.negotiate("de-AT,nl;q=0.5"));
+            assertEquals(1, negotiator.getCacheSize());
+        }
+    }
+
+    @Test
+    void testResolverWithoutLocaleList() {
+        // A resolver written before available locales existed only has the default method.
+        MessageBundleResolver legacy = (MessageBundleResolver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{MessageBundleResolver.class}, InvocationHandler::invokeDefault);
+        assertThrows(UnsupportedOperationException.class, legacy::getAvailableLocales);
+        assertThrows(UnsupportedOperationException.class, () -> new LocaleNegotiator(legacy, 16));
+    }
+
+    private Path compileCatalog() throws IOException {
+        Path catalogFile = directory.resolve("Default.catalog");
+        CatalogCompiler.compile("Default", DIRECTORY, catalogFile);
+        return catalogFile;
+    }
+}
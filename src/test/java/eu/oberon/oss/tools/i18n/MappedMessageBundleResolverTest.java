@@ -0,0 +1,135 @@
+package eu.oberon.oss.tools.i18n;
+
+import eu.oberon.oss.tools.i18n.formatter.FormatStringType;
+import eu.oberon.oss.tools.i18n.formatter.MessageDefinition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedMessageBundleResolverTest {
+    private static final File DIRECTORY = new File("src/test/resources/set-1/");
+    private static final List<String> KEYS = List.of("key1", "key1a", "key2", "greeting", "missing");
+
+    @TempDir
+    private Path temporaryDirectory;
+
+    private MessageBundleResolver expected;
+    private MessageBundleResolver resolver;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path catalogFile = temporaryDirectory.resolve("Default.catalog");
+        CatalogCompiler.compile("Default", DIRECTORY, catalogFile);
+        expected = new MessageBundleResolverImpl("Default", DIRECTORY);
+        resolver = new MappedMessageBundleResolver(catalogFile);
+    }
+
+    public static Stream<Arguments> testSameValuesAsDirectory() {
+        return Stream.of("", "nl", "nl-NL", "nl-BE-1331", "en", "de", "fr", "en-US")
+                .flatMap(tag -> KEYS.stream().map(key -> Arguments.of(Locale.forLanguageTag(tag), key)));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testSameValuesAsDirectory(Locale locale, String key) {
+        assertEquals(expected.isLocaleAvailable(locale), resolver.isLocaleAvailable(locale));
+        assertEquals(expected.loadMessageResourceBundle(locale), resolver.loadMessageResourceBundle(locale));
+        String value;
+        try {
+            value = expected.getString(locale, key);
+        } catch (MissingResourceException e) {
+            MissingResourceException exception = assertThrows(MissingResourceException.class, () -> resolver.getString(locale, key));
+            assertEquals(e.getMessage(), exception.getMessage());
+            return;
+        }
+        assertEquals(value, resolver.getString(locale, key));
+        assertEquals(value, resolver.getString(key));
+    }
+
+    @Test
+    void testMessageDefinitions() {
+        MessageDefinition definition = resolver.getMessageDefinition(Locale.ENGLISH, "greeting");
+        assertEquals(FormatStringType.LOG_FORMAT, definition.getFormatStringType());
+        assertEquals(1, definition.getReplacementCount());
+        assertSame(definition, resolver.getMessageDefinition(Locale.ENGLISH, "greeting"));
+        assertEquals("Hallo wereld!", resolver.getFormattedString(Locale.forLanguageTag("nl-NL"), "greeting", "wereld"));
+        assertEquals(FormatStringType.NON_FORMATTED_STRING, resolver.getMessageDefinition(Locale.ROOT, "key2").getFormatStringType());
+    }
+
+    @Test
+    void testSharedValuesAreStoredOnce() throws IOException {
+        Path directory = Files.createDirectory(temporaryDirectory.resolve("bundle"));
+        Files.writeString(directory.resolve("Shared.properties"), "key1=Gedeelde waarde {}\nkey2=ambiguous {} {0}\nkëy=ünïcode\n");
+        Files.writeString(directory.resolve("Shared_nl.properties"), "key1=Gedeelde waarde {}\n");
+        Files.writeString(directory.resolve("Shared_nl_BE.properties"), "key1=Gedeelde waarde {}\n");
+        Path catalogFile = temporaryDirectory.resolve("Shared.catalog");
+        CatalogCompiler.compile("Shared", directory.toFile(), catalogFile);
+
+        MappedMessageBundleResolver shared = new MappedMessageBundleResolver(catalogFile);
+        assertEquals("Shared", shared.getBaseName());
+        assertSame(shared.getMessageDefinition(Locale.ROOT, "key1"), shared.getMessageDefinition(Locale.forLanguageTag("nl-BE"), "key1"));
+        assertEquals("ünïcode", shared.getString(Locale.forLanguageTag("nl"), "këy"));
+        assertThrows(IllegalArgumentException.class, () -> shared.getMessageDefinition(Locale.ROOT, "key2"));
+        assertEquals(1, Files.readString(catalogFile, StandardCharsets.ISO_8859_1).split("Gedeelde waarde", -1).length - 1);
+    }
+
+    @ParameterizedTest
+    @MethodSource("testSameValuesAsDirectory")
+    void testDirectMemoryCatalog(Locale locale, String key) throws IOException {
+        MappedMessageBundleResolver direct = MappedMessageBundleResolver.load("Default", List.of(BundleSource.directory(DIRECTORY)));
+        assertNull(direct.getCatalogFile());
+        assertEquals(expected.isLocaleAvailable(locale), direct.isLocaleAvailable(locale));
+        try {
+            String value = expected.getString(locale, key);
+            assertEquals(value, direct.getString(locale, key));
+            assertEquals(value, StandardCharsets.UTF_8.decode(direct.getEncodedString(locale, key)).toString());
+        } catch (MissingResourceException e) {
+            assertThrows(MissingResourceException.class, () -> direct.getEncodedString(locale, key));
+        }
+    }
+
+    @Test
+    void testEncodedString() throws IOException {
+        Path directory = Files.createDirectory(temporaryDirectory.resolve("bundle"));
+        Files.writeString(directory.resolve("Mail.properties"), "body=Dëar customer, thank you.\nsubject=Welcome\n");
+        MappedMessageBundleResolver direct = MappedMessageBundleResolver.load("Mail", List.of(BundleSource.directory(directory.toFile())));
+
+        ByteBuffer body = direct.getEncodedString(Locale.ROOT, "body");
+        assertTrue(body.isReadOnly());
+        assertEquals("Dëar customer, thank you.".getBytes(StandardCharsets.UTF_8).length, body.remaining());
+        assertEquals("Dëar customer, thank you.", StandardCharsets.UTF_8.decode(body).toString());
+        assertEquals("Welcome", StandardCharsets.UTF_8.decode(direct.getEncodedString(Locale.ROOT, "subject")).toString());
+        assertThrows(IllegalArgumentException.class, () -> MappedMessageBundleResolver.load("Mail", List.of()));
+    }
+
+    @Test
+    void testNotACatalogFile() {
+        Path file = Path.of("src/test/resources/set-1/Default.properties");
+        IOException exception = assertThrows(IOException.class, () -> new MappedMessageBundleResolver(file));
+        assertEquals("'" + file + "' is not a message catalog", exception.getMessage());
+    }
+
+    @Test
+    void testCompilerCommandLine() throws IOException {
+        Path catalogFile = temporaryDirectory.resolve("CommandLine.catalog");
+        CatalogCompiler.main(new String[]{"Default", DIRECTORY.getPath(), catalogFile.toString()});
+        assertEquals("default key1 value", new MappedMessageBundleResolver(catalogFile).getString(Locale.ROOT, "key1"));
+        assertThrows(IllegalArgumentException.class, () -> CatalogCompiler.main(new String[]{"Default"}));
+    }
+}
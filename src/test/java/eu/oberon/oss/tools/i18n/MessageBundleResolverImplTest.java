@@ -1,17 +1,35 @@
 package eu.oberon.oss.tools.i18n;
 
+import eu.oberon.oss.tools.i18n.formatter.CacheStatistics;
+import eu.oberon.oss.tools.i18n.formatter.FormatStringType;
+import eu.oberon.oss.tools.i18n.formatter.MessageDefinition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -65,6 +83,171 @@ class MessageBundleResolverImplTest {
         assertEquals("Only exists as default.", resolver.getString("key2"));
     }
 
+    @ParameterizedTest
+    @MethodSource("testLocales")
+    void testLocaleExplicitLookup(boolean isAvailable, Locale locale, String language, String key, String bundleValue, String languageValue) {
+        Locale activeLocale = resolver.loadMessageResourceBundle(Locale.ROOT);
+
+        assertEquals(bundleValue, resolver.getString(locale, key));
+        assertEquals(languageValue == null ? bundleValue : languageValue, resolver.getString(Locale.forLanguageTag(language), key));
+        assertEquals("Only exists as default.", resolver.getString(locale, "key2"));
+        assertEquals(activeLocale, resolver.getCurrentActiveLocale());
+    }
+
+    @Test
+    void testLocaleExplicitLookupDefault() {
+        // A resolver written before locale-explicit lookups existed only has the default method.
+        MessageBundleResolver legacy = (MessageBundleResolver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{MessageBundleResolver.class}, InvocationHandler::invokeDefault);
+        assertThrows(UnsupportedOperationException.class, () -> legacy.getString(Locale.ROOT, "key1"));
+    }
+
+    @Test
+    void testFlattenedFallbackChain() {
+        Locale variant = new Locale.Builder().setLanguage("nl").setRegion("BE").setVariant("1331").build();
+        assertTrue(resolver.isLocaleAvailable(variant));
+        assertEquals("NL standaard key1 waarde", resolver.getString(variant, "key1"));
+        assertEquals("nl waarde voor taal", resolver.getString(variant, "key1a"));
+        assertEquals("Only exists as default.", resolver.getString(variant, "key2"));
+        assertThrows(MissingResourceException.class, () -> resolver.getString(variant, "missing"));
+    }
+
+    @Test
+    void testFormattedString() {
+        assertEquals("Hallo wereld!", resolver.getFormattedString(Locale.forLanguageTag("nl-NL"), "greeting", "wereld"));
+        assertEquals("Hello world!", resolver.getFormattedString(Locale.ENGLISH, "greeting", "world"));
+        assertThrows(MissingResourceException.class, () -> resolver.getFormattedString(Locale.ENGLISH, "missing", "world"));
+    }
+
+    @Test
+    void testCachedMessageDefinition() {
+        Locale dutch = Locale.forLanguageTag("nl");
+        MessageDefinition definition = resolver.getMessageDefinition(dutch, "greeting");
+        assertSame(definition, resolver.getMessageDefinition(dutch, "greeting"));
+        assertEquals(FormatStringType.LOG_FORMAT, definition.getFormatStringType());
+        assertEquals("Hallo wereld!", definition.createFormattedMessage("wereld"));
+
+        resolver.loadMessageResourceBundle(Locale.ENGLISH);
+        assertEquals("Hello world!", resolver.getMessageDefinition("greeting").createFormattedMessage("world"));
+        assertThrows(MissingResourceException.class, () -> resolver.getMessageDefinition(dutch, "missing"));
+    }
+
+    @Test
+    void testTableDefinitionsBypassSharedCache() {
+        CacheStatistics before = MessageDefinition.getCacheStatistics();
+        resolver.getMessageDefinition(Locale.forLanguageTag("nl"), "greeting");
+        resolver.getMessageDefinition(Locale.ENGLISH, "greeting");
+        CacheStatistics after = MessageDefinition.getCacheStatistics();
+        assertEquals(before.hits(), after.hits());
+        assertEquals(before.misses(), after.misses());
+    }
+
+    @Test
+    void testMessageDefinitionDefaults() {
+        // A resolver written before message definitions existed only implements the string lookups.
+        MessageBundleResolver legacy = (MessageBundleResolver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{MessageBundleResolver.class}, (proxy, method, arguments) -> switch (method.getName()) {
+                    case "getString" -> arguments.length == 1 ? "Hello {}!" : "Hallo {}!";
+                    default -> InvocationHandler.invokeDefault(proxy, method, arguments);
+                });
+        assertEquals("Hello world!", legacy.getMessageDefinition("greeting").createFormattedMessage("world"));
+        assertEquals(FormatStringType.LOG_FORMAT, legacy.getMessageDefinition(Locale.ROOT, "greeting").getFormatStringType());
+        assertEquals("Hallo wereld!", legacy.getFormattedString(Locale.ROOT, "greeting", "wereld"));
+    }
+
+    @Test
+    void testConcurrentLocaleLookups() throws InterruptedException {
+        Locale dutch = Locale.forLanguageTag("nl-NL");
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            boolean english = i % 2 == 0;
+            executor.execute(() -> {
+                String value = resolver.getString(english ? Locale.ENGLISH : dutch, "key1");
+                if (!value.equals(english ? "en key1 value" : "NL standaard key1 waarde")) {
+                    failures.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(0, failures.get());
+    }
+
+    @Test
+    void testWatchModeReloadsChangedFiles(@TempDir Path directory) throws IOException, InterruptedException {
+        Files.writeString(directory.resolve("Watched.properties"), "key1=root value\nkey2=root only\n");
+        Files.writeString(directory.resolve("Watched_nl.properties"), "key1=nl value\n");
+        Locale dutch = Locale.forLanguageTag("nl");
+        Locale german = Locale.forLanguageTag("de");
+
+        try (MessageBundleResolverImpl watching = new MessageBundleResolverImpl("Watched", directory.toFile(), true)) {
+            MessageDefinition rootDefinition = watching.getMessageDefinition(Locale.ROOT, "key2");
+            assertEquals("nl value", watching.getString(dutch, "key1"));
+
+            Files.writeString(directory.resolve("Watched_nl.properties"), "key1=changed nl value\n");
+            awaitValue(watching, dutch, "key1", "changed nl value");
+            assertSame(rootDefinition, watching.getMessageDefinition(Locale.ROOT, "key2"));
+
+            Files.writeString(directory.resolve("Watched_de.properties"), "key1=de value\n");
+            awaitValue(watching, german, "key1", "de value");
+            assertTrue(watching.isLocaleAvailable(german));
+            assertEquals("root only", watching.getString(german, "key2"));
+        }
+    }
+
+    private static void awaitValue(MessageBundleResolver resolver, Locale locale, String key, String expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!expected.equals(resolver.getString(locale, key)) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(expected, resolver.getString(locale, key));
+    }
+
+    @Test
+    void testLayeredSources(@TempDir Path directory) throws IOException {
+        Path overrides = Files.createDirectory(directory.resolve("overrides"));
+        Files.writeString(overrides.resolve("Default.properties"), "key2=Overridden default.\n");
+        Files.writeString(overrides.resolve("Default_nl_NL.properties"), "key1=NL klant waarde\n");
+        Files.writeString(overrides.resolve("Default_fr.properties"), "key1=fr valeur\n");
+
+        MessageBundleResolver layered = new MessageBundleResolverImpl("Default",
+                List.of(BundleSource.directory(overrides.toFile()), BundleSource.classPath("set-1")));
+        assertEquals("NL klant waarde", layered.getString(Locale.forLanguageTag("nl-NL"), "key1"));
+        assertEquals("NL_nl standaard key1 waarde", layered.getString(Locale.forLanguageTag("nl-NL"), "key1a"));
+        assertEquals("Overridden default.", layered.getString(Locale.forLanguageTag("nl-BE-1331"), "key2"));
+        assertEquals("en key1 value", layered.getString(Locale.ENGLISH, "key1"));
+        assertEquals("fr valeur", layered.getString(Locale.FRENCH, "key1"));
+        assertTrue(layered.isLocaleAvailable(Locale.FRENCH));
+    }
+
+    @Test
+    void testArchiveSources(@TempDir Path directory) throws IOException {
+        Path jar = directory.resolve("messages.jar");
+        try (ZipOutputStream output = new ZipOutputStream(Files.newOutputStream(jar))) {
+            output.putNextEntry(new ZipEntry("i18n/"));
+            output.putNextEntry(new ZipEntry("i18n/Default.properties"));
+            output.write("key1=jar default\nkey2=jar only\n".getBytes(StandardCharsets.UTF_8));
+            output.putNextEntry(new ZipEntry("i18n/Default_nl.properties"));
+            output.write("key1=jar nl\n".getBytes(StandardCharsets.UTF_8));
+        }
+
+        MessageBundleResolver archive = new MessageBundleResolverImpl("Default", List.of(BundleSource.archive(jar, "i18n")));
+        assertEquals("jar nl", archive.getString(Locale.forLanguageTag("nl-NL"), "key1"));
+        assertEquals("jar only", archive.getString(Locale.forLanguageTag("nl"), "key2"));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{jar.toUri().toURL()}, null)) {
+            MessageBundleResolver classPath = new MessageBundleResolverImpl("Default",
+                    List.of(BundleSource.classPath(classLoader, "i18n"), BundleSource.directory(new File("src/test/resources/set-1/"))));
+            assertEquals("jar default", classPath.getString(Locale.ROOT, "key1"));
+            assertEquals("en key1 value", classPath.getString(Locale.ENGLISH, "key1"));
+        }
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> new MessageBundleResolverImpl("Missing", List.of(BundleSource.archive(jar, "i18n"))));
+        assertEquals("No files in archive " + jar + "!/i18n", exception.getMessage());
+    }
+
     @Test
     void currentLocaleTest() {
         Locale currentLocale = resolver.getCurrentActiveLocale();
@@ -0,0 +1,74 @@
+package eu.oberon.oss.tools.i18n;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringPoolTest {
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testCanonicalize() {
+        StringPool pool = new StringPool();
+        String first = new String("Oberon");
+        String second = new String("Oberon");
+
+        assertSame(first, pool.canonicalize(first));
+        assertSame(first, pool.canonicalize(second));
+        assertEquals(1, pool.size());
+        assertEquals(40 + 2 * 6, pool.getSavedBytes());
+
+        Map<String, String> canonical = Map.of("brand", first);
+        assertSame(canonical, pool.canonicalize(canonical));
+        Map<String, String> copy = Map.of(new String("brand"), new String("Oberon"));
+        assertSame(first, pool.canonicalize(copy).get("brand"));
+    }
+
+    @Test
+    void testEqualStringsAreSharedBetweenLocales() throws IOException {
+        Files.writeString(directory.resolve("Messages.properties"), "brand=Oberon\nwelcome=Welcome\n");
+        Files.writeString(directory.resolve("Messages_nl.properties"), "brand=Oberon\nwelcome=Welkom\n");
+        Files.writeString(directory.resolve("Messages_nl_BE.properties"), "brand=Oberon\nwelcome=Welkom\n");
+
+        Catalog catalog = Catalog.load("Messages", directory.toFile());
+        Map<String, String> root = catalog.getTable(Locale.ROOT).getMessages();
+        Map<String, String> dutch = catalog.getTable(Locale.forLanguageTag("nl")).getMessages();
+        Map<String, String> belgian = catalog.getTable(Locale.forLanguageTag("nl-BE")).getMessages();
+
+        assertSame(root.get("brand"), belgian.get("brand"));
+        assertSame(dutch.get("welcome"), belgian.get("welcome"));
+        assertSame(key(root, "welcome"), key(belgian, "welcome"));
+        assertEquals("Welkom", belgian.get("welcome"));
+        // Two duplicates of each key, two of 'Oberon' and one of 'Welkom'.
+        assertEquals(2 * (40 + 2 * 5) + 2 * (40 + 2 * 7) + 3 * (40 + 2 * 6), catalog.getDeduplicatedBytes());
+
+        Files.writeString(directory.resolve("Messages_nl_BE.properties"), "brand=Oberon\nwelcome=Welkom!\n");
+        Catalog reloaded = catalog.reload(List.of(Path.of("Messages_nl_BE.properties")));
+        assertSame(root.get("brand"), reloaded.getTable(Locale.forLanguageTag("nl-BE")).getMessages().get("brand"));
+        assertEquals("Welkom!", reloaded.getTable(Locale.forLanguageTag("nl-BE")).getString("welcome"));
+    }
+
+    @Test
+    void testDeduplicationKeepsMessages() throws IOException {
+        File set1 = new File("src/test/resources/set-1");
+        Catalog catalog = Catalog.load("Default", set1);
+        assertTrue(catalog.getDeduplicatedBytes() > 0);
+        assertEquals(catalog.getDeduplicatedBytes(), new MessageBundleResolverImpl("Default", set1).getDeduplicatedBytes());
+        assertEquals(0, new MessageBundleResolverImpl("Default", List.of(BundleSource.directory(set1)), 1 << 20).getDeduplicatedBytes());
+        assertEquals("NL_nl standaard key1 waarde", catalog.getTable(Locale.forLanguageTag("nl-NL")).getString("key1a"));
+    }
+
+    private static String key(Map<String, String> messages, String key) {
+        return messages.keySet().stream().filter(key::equals).findFirst().orElseThrow();
+    }
+}
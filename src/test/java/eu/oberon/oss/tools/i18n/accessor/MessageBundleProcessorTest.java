@@ -0,0 +1,207 @@
+package eu.oberon.oss.tools.i18n.accessor;
+
+import eu.oberon.oss.tools.i18n.MessageBundleResolver;
+import eu.oberon.oss.tools.i18n.MessageBundleResolverImpl;
+import eu.oberon.oss.tools.i18n.formatter.MessageDefinition;
+import eu.oberon.oss.tools.i18n.formatter.MessagesException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageBundleProcessorTest {
+    private static final String SOURCE = """
+            package example;
+
+            import eu.oberon.oss.tools.i18n.accessor.MessageBundle;
+
+            @MessageBundle("%s")
+            interface Orders {
+            }
+            """;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testGeneratedAccessor() throws Exception {
+        Files.writeString(directory.resolve("Orders.properties"), """
+                order.not.found=Order %d was not found
+                order_total=Total: %.2f
+                greeting=Hello {}, welcome to {}!
+                plain=No parameters
+                initial=Initial %c
+                many={0} {1} {2} {3}
+                mask=Mask %x
+                range=From %d to %d
+                """);
+        Files.writeString(directory.resolve("Orders_nl.properties"), """
+                order.not.found=Bestelling %d niet gevonden
+                greeting=Hallo {}!
+                """);
+
+        Path classes = compile("Orders.properties");
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> accessorClass = loader.loadClass("example.OrdersAccessor");
+            assertEquals(MessageAccessor.class, accessorClass.getSuperclass());
+            assertEquals(long.class, accessorClass.getMethod("orderNotFound", long.class).getParameterTypes()[0]);
+            assertEquals(double.class, accessorClass.getMethod("orderTotal", double.class).getParameterTypes()[0]);
+            assertEquals(char.class, accessorClass.getMethod("initial", char.class).getParameterTypes()[0]);
+            assertEquals(4, accessorClass.getMethod("many", Object.class, Object.class, Object.class, Object.class).getParameterCount());
+            assertThrows(NoSuchMethodException.class, () -> accessorClass.getMethod("mask", long.class));
+
+            MessageBundleResolver resolver = new MessageBundleResolverImpl("Orders", directory.toFile());
+            Object english = accessorClass.getConstructor(MessageBundleResolver.class, Locale.class).newInstance(resolver, Locale.ENGLISH);
+            assertEquals("Order 42 was not found", accessorClass.getMethod("orderNotFound", long.class).invoke(english, 42L));
+            assertEquals("Order 12345678901234567890 was not found",
+                    accessorClass.getMethod("orderNotFound", Object.class).invoke(english, new BigInteger("12345678901234567890")));
+            assertEquals("Total: 3.14", accessorClass.getMethod("orderTotal", Object.class).invoke(english, new BigDecimal("3.14159")));
+            assertEquals("Mask ffffffff", accessorClass.getMethod("mask", Object.class).invoke(english, -1));
+            assertEquals("From 1 to 2", accessorClass.getMethod("range", long.class, long.class).invoke(english, 1L, 2L));
+            assertEquals("From 1 to 2", accessorClass.getMethod("range", Object.class, Object.class).invoke(english, BigInteger.ONE, 2));
+            assertEquals("Hello John, welcome to Oberon!", accessorClass.getMethod("greeting", Object.class, Object.class).invoke(english, "John", "Oberon"));
+            assertEquals("Total: 3.14", accessorClass.getMethod("orderTotal", double.class).invoke(english, 3.14159));
+            assertEquals("No parameters", accessorClass.getMethod("plain").invoke(english));
+            assertEquals("Initial x", accessorClass.getMethod("initial", char.class).invoke(english, 'x'));
+            assertEquals("a b c d", accessorClass.getMethod("many", Object.class, Object.class, Object.class, Object.class).invoke(english, "a", "b", "c", "d"));
+
+            Object dutch = accessorClass.getConstructor(MessageBundleResolver.class, Locale.class).newInstance(resolver, Locale.forLanguageTag("nl"));
+            assertEquals("Bestelling 42 niet gevonden", accessorClass.getMethod("orderNotFound", long.class).invoke(dutch, 42L));
+            Method greeting = accessorClass.getMethod("greeting", Object.class, Object.class);
+            Throwable exception = assertThrows(Exception.class, () -> greeting.invoke(dutch, "Jan", "Oberon")).getCause();
+            assertInstanceOf(MessagesException.class, exception);
+            assertEquals("Message 'greeting' for locale 'nl' expects 1 replacement parameters, but the accessor passes 2", exception.getMessage());
+        }
+    }
+
+    @Test
+    void testAccessorServesReloadedMessages() throws Exception {
+        Files.writeString(directory.resolve("Orders.properties"), "greeting=Hello {}!\n");
+        Path classes = compile("Orders.properties");
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader());
+             MessageBundleResolverImpl watching = new MessageBundleResolverImpl("Orders", directory.toFile(), true)) {
+            Class<?> accessorClass = loader.loadClass("example.OrdersAccessor");
+            Object accessor = accessorClass.getConstructor(MessageBundleResolver.class, Locale.class).newInstance(watching, Locale.ROOT);
+            Method greeting = accessorClass.getMethod("greeting", Object.class);
+            assertEquals("Hello John!", greeting.invoke(accessor, "John"));
+
+            Files.writeString(directory.resolve("Orders.properties"), "greeting=Welcome back, {}!\n");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (!"Welcome back, John!".equals(greeting.invoke(accessor, "John")) && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals("Welcome back, John!", greeting.invoke(accessor, "John"));
+        }
+    }
+
+    @Test
+    void testSlotsFollowResolverGeneration() {
+        AtomicLong generation = new AtomicLong();
+        AtomicInteger lookups = new AtomicInteger();
+        MessageBundleResolver resolver = (MessageBundleResolver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{MessageBundleResolver.class}, (proxy, method, arguments) -> switch (method.getName()) {
+                    case "getGeneration" -> generation.get();
+                    case "getMessageDefinition" -> {
+                        lookups.incrementAndGet();
+                        yield new MessageDefinition("Hello {}! (" + generation.get() + ")");
+                    }
+                    default -> InvocationHandler.invokeDefault(proxy, method, arguments);
+                });
+        MessageAccessor accessor = new MessageAccessor(resolver, Locale.ROOT, new String[]{"greeting"}, new int[]{1}) {
+        };
+
+        assertEquals("Hello John! (0)", accessor.definition(0).createFormattedMessage("John"));
+        assertSame(accessor.definition(0), accessor.definition(0));
+        assertEquals(1, lookups.get());
+
+        generation.set(1);
+        assertEquals("Hello John! (1)", accessor.definition(0).createFormattedMessage("John"));
+        assertEquals(2, lookups.get());
+
+        generation.set(MessageBundleResolver.UNTRACKED_GENERATION);
+        accessor.definition(0);
+        accessor.definition(0);
+        assertEquals(4, lookups.get());
+    }
+
+    @Test
+    void testInvalidBundleIsACompileError() throws IOException {
+        Files.writeString(directory.resolve("Orders.properties"), """
+                ambiguous=Hello {} and {0}
+                first.key=one
+                first-key=two
+                to.string=Not a toString() override
+                hash.code=Not a hashCode() override
+                get.locale=Not a getLocale() override
+                wait=Not a wait() override
+                """);
+
+        List<String> errors = compileWithErrors("Orders.properties");
+        assertTrue(errors.contains("Message 'ambiguous': Format string 'Hello {} and {0}' is ambiguous!"), errors.toString());
+        assertTrue(errors.contains("Key 'first.key' does not map to a valid, unique method name ('firstKey')"), errors.toString());
+        assertTrue(errors.contains("Key 'to.string' maps to the reserved method name 'toString'"), errors.toString());
+        assertTrue(errors.contains("Key 'hash.code' maps to the reserved method name 'hashCode'"), errors.toString());
+        assertTrue(errors.contains("Key 'get.locale' maps to the reserved method name 'getLocale'"), errors.toString());
+        assertTrue(errors.contains("Key 'wait' maps to the reserved method name 'wait'"), errors.toString());
+        assertEquals(6, errors.size(), errors.toString());
+    }
+
+    @Test
+    void testMissingBundleIsACompileError() throws IOException {
+        List<String> errors = compileWithErrors("Missing.properties");
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).startsWith("Cannot read message bundle"), errors.toString());
+    }
+
+    private Path compile(String bundle) throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertTrue(runCompiler(bundle, diagnostics), diagnostics.getDiagnostics().toString());
+        return directory.resolve("classes");
+    }
+
+    private List<String> compileWithErrors(String bundle) throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertFalse(runCompiler(bundle, diagnostics));
+        return diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+                .collect(Collectors.toList());
+    }
+
+    private boolean runCompiler(String bundle, DiagnosticCollector<JavaFileObject> diagnostics) throws IOException {
+        Path source = directory.resolve("Orders.java");
+        Files.writeString(source, String.format(SOURCE, directory.resolve(bundle).toString().replace("\\", "\\\\")));
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, null)) {
+            List<String> options = List.of("-d", classes.toString(), "-classpath", System.getProperty("java.class.path"),
+                    "-processor", MessageBundleProcessor.class.getName());
+            return compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjects(source)).call();
+        }
+    }
+}
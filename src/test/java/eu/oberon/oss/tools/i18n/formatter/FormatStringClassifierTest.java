@@ -0,0 +1,23 @@
+package eu.oberon.oss.tools.i18n.formatter;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static eu.oberon.oss.tools.i18n.formatter.FormatStringType.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FormatStringClassifierTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "", "Hello!", "Hello %s!", "Hello %% %s!", "%%s", "%%%s", "100%", "50% done", "%n", "%1$s %2$-10s",
+            "%5.2f %.f %08X %,d %<s %tY %t", "%-#+0,(<d", "{}", "{} {} {}}", "{{}}", "{0} {12} {a} {}",
+            "{ 0 }", "{0,number}", "%s {} {0}", "\\{} {}", "'{0}' {1}", "%1$", "%12$", "%.5"
+    })
+    void classifierMatchesPatternsTest(String formatString) {
+        FormatStringClassifier.Classification classification = FormatStringClassifier.classify(formatString);
+        assertEquals(STRING_FORMAT.analyze(formatString), classification.stringFormatCount());
+        assertEquals(LOG_FORMAT.analyze(formatString), classification.logFormatCount());
+        assertEquals(TEXT_FORMAT.analyze(formatString), classification.textFormatCount());
+    }
+}
@@ -1,10 +1,13 @@
 package eu.oberon.oss.tools.i18n.formatter;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.stream.Stream;
 
 import static eu.oberon.oss.tools.i18n.formatter.FormatStringType.*;
@@ -16,8 +19,17 @@ class MessageDefinitionTest {
         return Stream.of(
                 Arguments.of(STRING_FORMAT, "Hello %% %s!", "Hello % World!", 1, new Object[]{"World"}),
                 Arguments.of(STRING_FORMAT, "Hello %s!", "Hello World!", 1, new Object[]{"World"}),
+                Arguments.of(STRING_FORMAT, "%2$s %1$s", "World Hello", 2, new Object[]{"Hello", "World"}),
+                Arguments.of(STRING_FORMAT, "%d %<x %x", "255 ff ffffffffffffffff", 2, new Object[]{255, -1L}),
+                Arguments.of(STRING_FORMAT, "%f|%5.2f|%-4s|", "1.500000|-0.13|ab  |", 3, new Object[]{1.5d, -0.125d, "ab"}),
+                Arguments.of(STRING_FORMAT, "%s%n", "line" + System.lineSeparator(), 1, new Object[]{"line"}),
                 Arguments.of(LOG_FORMAT, "Hello {}!", "Hello World!", 1, new Object[]{"World"}),
+                Arguments.of(LOG_FORMAT, "{} and {}", "[1, 2] and null", 2, new Object[]{new int[]{1, 2}, null}),
+                Arguments.of(LOG_FORMAT, "Escaped \\{} and {}", "Escaped {} and 1", 1, new Object[]{1}),
+                Arguments.of(LOG_FORMAT, "Backslash \\\\{}", "Backslash \\1", 1, new Object[]{1}),
                 Arguments.of(TEXT_FORMAT, "Hello {0}!", "Hello World!", 1, new Object[]{"World"}),
+                Arguments.of(TEXT_FORMAT, "{1}, {0} and {1}", "b, a and b", 2, new Object[]{"a", "b"}),
+                Arguments.of(TEXT_FORMAT, "It''s '{0}' {0}", "It's {0} x", 1, new Object[]{"x"}),
                 Arguments.of(NON_FORMATTED_STRING, "Hello!", "Hello!", 0, null)
         );
     }
@@ -38,7 +50,8 @@ class MessageDefinitionTest {
                 Arguments.of("{0} %s", true),
                 Arguments.of("{} {0}", true),
                 Arguments.of("{} {0} %s", true),
-                Arguments.of("%% %s", false)
+                Arguments.of("%% %s", false),
+                Arguments.of("50% done, {}", false)
         );
     }
 
@@ -77,4 +90,170 @@ class MessageDefinitionTest {
         MessageDefinition definition = new MessageDefinition(formatString);
         Assertions.assertThrows(MessagesException.class, () -> definition.createFormattedMessage(replacementParameters));
     }
-}
\ No newline at end of file
+
+    @Test
+    void sharedDefinitionTest() {
+        String formatString = "Shared definition {}";
+        CacheStatistics before = MessageDefinition.getCacheStatistics();
+
+        MessageDefinition first = MessageDefinition.of(formatString);
+        MessageDefinition second = MessageDefinition.of(formatString);
+
+        CacheStatistics after = MessageDefinition.getCacheStatistics();
+        assertSame(first, second);
+        assertEquals(LOG_FORMAT, first.getFormatStringType());
+        assertTrue(after.hits() > before.hits());
+        assertTrue(after.misses() > before.misses());
+    }
+
+    @Test
+    void sharedDefinitionAmbiguousTest() {
+        assertThrows(IllegalArgumentException.class, () -> MessageDefinition.of("{} %s"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("formattedStringTest")
+    void formatToTest(FormatStringType formatType, String format, String expectedString, int replacementCount, Object[] replacementParameters) throws IOException {
+        MessageDefinition messageDefinition = new MessageDefinition(format);
+
+        StringBuilder builder = new StringBuilder("> ");
+        messageDefinition.formatTo(builder, replacementParameters);
+        assertEquals("> " + expectedString, builder.toString());
+
+        StringWriter writer = new StringWriter();
+        messageDefinition.formatTo(writer, replacementParameters);
+        assertEquals(expectedString, writer.toString());
+    }
+
+    @Test
+    void defaultFormatToTest() throws IOException {
+        MessageFormatter formatter = parameters -> "Hello " + parameters[0] + "!";
+
+        StringBuilder builder = new StringBuilder("> ");
+        formatter.formatTo(builder, "World");
+        assertEquals("> Hello World!", builder.toString());
+
+        StringWriter writer = new StringWriter();
+        formatter.formatTo(writer, "World");
+        assertEquals("Hello World!", writer.toString());
+    }
+
+    private static Stream<Arguments> primitiveOverloadTest() {
+        return Stream.of(
+                Arguments.of("%x", 255),
+                Arguments.of("%x", -1),
+                Arguments.of("%x", -1L),
+                Arguments.of("%d", Long.MIN_VALUE),
+                Arguments.of("%s", -42),
+                Arguments.of("%f", 1.0000005d),
+                Arguments.of("%f", -0.0d),
+                Arguments.of("%s", Double.NaN),
+                Arguments.of("%5d", 42),
+                Arguments.of("Value {}", 1234567890123L),
+                Arguments.of("Value {}", 0.5d),
+                Arguments.of("Value {0}", 1234567),
+                Arguments.of("Value {0}", 1234.5678d),
+                Arguments.of("{1} - {0}", 7),
+                Arguments.of("%2$x %1$d", -1L)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void primitiveOverloadTest(String format, Number value) {
+        MessageDefinition definition = new MessageDefinition(format);
+        StringBuilder builder = new StringBuilder();
+
+        if (definition.getReplacementCount() == 2) {
+            String expected = definition.createFormattedMessage(value, value);
+            if (value instanceof Integer i) {
+                assertEquals(expected, definition.createFormattedMessage(i.intValue(), i.intValue()));
+                definition.formatTo(builder, i.intValue(), i.intValue());
+            } else {
+                assertEquals(expected, definition.createFormattedMessage(value.longValue(), value.longValue()));
+                definition.formatTo(builder, value.longValue(), value.longValue());
+            }
+            assertEquals(expected, builder.toString());
+            return;
+        }
+
+        String expected = definition.createFormattedMessage(new Object[]{value});
+        if (value instanceof Integer i) {
+            assertEquals(expected, definition.createFormattedMessage(i.intValue()));
+            definition.formatTo(builder, i.intValue());
+        } else if (value instanceof Long l) {
+            assertEquals(expected, definition.createFormattedMessage(l.longValue()));
+            definition.formatTo(builder, l.longValue());
+        } else {
+            assertEquals(expected, definition.createFormattedMessage(value.doubleValue()));
+            definition.formatTo(builder, value.doubleValue());
+        }
+        assertEquals(expected, builder.toString());
+    }
+
+    private static Stream<Arguments> arityOverloadTest() {
+        return Stream.of(
+                Arguments.of("Hello!", new Object[0]),
+                Arguments.of("Hello {}!", new Object[]{"World"}),
+                Arguments.of("{1} {0}", new Object[]{"a", "b"}),
+                Arguments.of("%3$s %1$s %2$s", new Object[]{"a", null, 3}),
+                Arguments.of("Hello %s!", new Object[]{'c'})
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void arityOverloadTest(String format, Object[] parameters) {
+        MessageDefinition definition = new MessageDefinition(format);
+        String expected = definition.createFormattedMessage(parameters);
+        StringBuilder builder = new StringBuilder();
+
+        switch (parameters.length) {
+            case 0 -> {
+                assertEquals(expected, definition.createFormattedMessage());
+                definition.formatTo(builder);
+            }
+            case 1 -> {
+                assertEquals(expected, definition.createFormattedMessage(parameters[0]));
+                definition.formatTo(builder, parameters[0]);
+            }
+            case 2 -> {
+                assertEquals(expected, definition.createFormattedMessage(parameters[0], parameters[1]));
+                definition.formatTo(builder, parameters[0], parameters[1]);
+            }
+            default -> {
+                assertEquals(expected, definition.createFormattedMessage(parameters[0], parameters[1], parameters[2]));
+                definition.formatTo(builder, parameters[0], parameters[1], parameters[2]);
+            }
+        }
+        assertEquals(expected, builder.toString());
+    }
+
+    @Test
+    void charOverloadTest() {
+        assertEquals("Hello c!", new MessageDefinition("Hello %s!").createFormattedMessage('c'));
+        assertEquals("Hello c!", new MessageDefinition("Hello {}!").createFormattedMessage('c'));
+    }
+
+    @Test
+    void narrowPrimitiveOverloadTest() {
+        assertEquals("ff", new MessageDefinition("%x").createFormattedMessage((byte) -1));
+        assertEquals("ffff", new MessageDefinition("%x").createFormattedMessage((short) -1));
+        assertEquals("0.1", new MessageDefinition("%s").createFormattedMessage(0.1f));
+        assertEquals("0.1", new MessageDefinition("{}").createFormattedMessage(0.1f));
+
+        StringBuilder builder = new StringBuilder();
+        new MessageDefinition("%x").formatTo(builder, (byte) -1);
+        new MessageDefinition(" %x").formatTo(builder, (short) -1);
+        new MessageDefinition(" {}").formatTo(builder, 0.1f);
+        assertEquals("ff ffff 0.1", builder.toString());
+    }
+
+    @Test
+    void arityCountMismatchTest() {
+        MessageDefinition definition = new MessageDefinition("Hello {}!");
+        assertThrows(MessagesException.class, definition::createFormattedMessage);
+        assertThrows(MessagesException.class, () -> definition.createFormattedMessage(1, 2));
+        assertThrows(MessagesException.class, () -> new MessageDefinition("Hello!").createFormattedMessage(1));
+    }
+}
@@ -1,9 +1,11 @@
 package eu.oberon.oss.tools.i18n.formatter;
 
 import eu.oberon.oss.tools.i18n.formatter.exceptions.CauseOnlyException;
+import eu.oberon.oss.tools.i18n.formatter.exceptions.FailingConstructionException;
 import eu.oberon.oss.tools.i18n.formatter.exceptions.MessageForCauseException;
 import eu.oberon.oss.tools.i18n.formatter.exceptions.MessageFullConstructionException;
 import eu.oberon.oss.tools.i18n.formatter.exceptions.MessageOnlyException;
+import eu.oberon.oss.tools.i18n.formatter.exceptions.SupplierMessageException;
 import lombok.extern.log4j.Log4j2;
 import nl.altindag.log.LogCaptor;
 import org.apache.logging.log4j.Level;
@@ -12,6 +14,9 @@ import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static eu.oberon.oss.tools.i18n.formatter.FormatStringType.STRING_FORMAT;
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,6 +35,14 @@ class MessagesHelperTest {
         assertEquals("Example non-log/non-exception message test", message);
     }
 
+    @Test
+    void testFormatToBuffer() {
+        MessagesHelper helper = new MessagesHelperImpl(TEMPLATE);
+        StringBuilder builder = new StringBuilder("[");
+        helper.formatTo(builder, "test");
+        assertEquals("[Example non-log/non-exception message test", builder.toString());
+    }
+
     @Test
     void testLogMessageFormatter() {
         Logger testLogger = LogManager.getLogger(MessagesHelperImpl.class);
@@ -57,6 +70,65 @@ class MessagesHelperTest {
         assertFalse(logCaptor.getLogs().contains("Example non-log/non-exception message test"));
     }
 
+    @Test
+    void testDisabledLogLevelDoesNotFormat() {
+        Logger testLogger = LogManager.getLogger(MessagesHelperImpl.class);
+        AtomicInteger renderCount = new AtomicInteger();
+        Object parameter = new Object() {
+            @Override
+            public String toString() {
+                renderCount.incrementAndGet();
+                return "test";
+            }
+        };
+
+        new MessagesHelperImpl(TEMPLATE, Level.TRACE).logMessage(testLogger, parameter);
+        assertEquals(0, renderCount.get());
+
+        new MessagesHelperImpl(TEMPLATE, Level.INFO).logMessage(testLogger, parameter);
+        assertTrue(renderCount.get() > 0);
+    }
+
+    @Test
+    void testLogMessageWithInvalidNumberOfReplacementVariables() {
+        Logger testLogger = LogManager.getLogger(MessagesHelperImpl.class);
+        MessagesHelper helper = new MessagesHelperImpl(TEMPLATE, Level.TRACE);
+        assertThrows(MessagesException.class, () -> helper.logMessage(testLogger, "test", "test"));
+    }
+
+    @Test
+    void testLogMessagePrimitiveParameters() {
+        Logger testLogger = LogManager.getLogger(MessagesHelperImpl.class);
+        LogCaptor logCaptor = LogCaptor.forClass(MessagesHelperImpl.class);
+
+        new MessagesHelperImpl("Primitive values {} and {}", Level.INFO).logMessage(testLogger, 255L, -1L);
+        new MessagesHelperImpl("Primitive value %x", Level.INFO).logMessage(testLogger, -1);
+        new MessagesHelperImpl("Character value {}", Level.INFO).logMessage(testLogger, 'c');
+        assertTrue(logCaptor.getLogs().contains("Primitive values 255 and -1"));
+        assertTrue(logCaptor.getLogs().contains("Primitive value ffffffff"));
+        assertTrue(logCaptor.getLogs().contains("Character value c"));
+
+        MessagesHelper helper = new MessagesHelperImpl("Primitive value {}", Level.INFO);
+        assertThrows(MessagesException.class, () -> helper.logMessage(testLogger, 1, 2));
+    }
+
+    @Test
+    void testNarrowPrimitiveParameters() {
+        Logger testLogger = LogManager.getLogger(MessagesHelperImpl.class);
+        LogCaptor logCaptor = LogCaptor.forClass(MessagesHelperImpl.class);
+
+        new MessagesHelperImpl("Byte value %x", Level.INFO).logMessage(testLogger, (byte) -1);
+        new MessagesHelperImpl("Short value %x", Level.INFO).logMessage(testLogger, (short) -1);
+        new MessagesHelperImpl("Float value {}", Level.INFO).logMessage(testLogger, 0.1f);
+        assertTrue(logCaptor.getLogs().contains("Byte value ff"));
+        assertTrue(logCaptor.getLogs().contains("Short value ffff"));
+        assertTrue(logCaptor.getLogs().contains("Float value 0.1"));
+
+        assertEquals("ff", new MessagesHelperImpl("%x", MessageOnlyException.class).createExceptionWithMessage((byte) -1).getMessage());
+        assertEquals("ffff", new MessagesHelperImpl("%x", MessageOnlyException.class).createExceptionWithMessage((short) -1).getMessage());
+        assertEquals("0.1", new MessagesHelperImpl("{}", MessageOnlyException.class).createExceptionWithMessage(0.1f).getMessage());
+    }
+
     @Test
     void testMessageOnlyExceptionFormatter() {
         MessagesHelper helper = new MessagesHelperImpl(TEMPLATE, MessageOnlyException.class);
@@ -107,6 +179,90 @@ class MessagesHelperTest {
         assertThrows(MessagesException.class, () -> helper.createExceptionFullParameters(cause, true, true, "test"));
     }
 
+    @Test
+    void testFailingConstructorKeepsCause() {
+        MessagesHelper helper = new MessagesHelperImpl(TEMPLATE, FailingConstructionException.class);
+        MessagesException exception = assertThrows(MessagesException.class, () -> helper.createExceptionWithMessage("test"));
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertEquals("Construction failed: Example non-log/non-exception message test", exception.getCause().getMessage());
+    }
+
+    @Test
+    void testStacklessExceptionMode() {
+        MessagesHelper helper = new MessagesHelperImpl(TEMPLATE, MessageFullConstructionException.class, ExceptionMode.STACKLESS);
+        assertEquals(ExceptionMode.STACKLESS, helper.getExceptionMode());
+
+        Exception exception = helper.createExceptionWithMessage("test");
+        assertEquals("Example non-log/non-exception message test", exception.getMessage());
+        assertEquals(0, exception.getStackTrace().length);
+
+        Exception cause = new IOException("io exception");
+        Exception withCause = helper.createExceptionWithCause(cause, "test");
+        assertSame(cause, withCause.getCause());
+        assertEquals(0, withCause.getStackTrace().length);
+        assertNotSame(exception, helper.createExceptionWithMessage("test"));
+    }
+
+    @Test
+    void testPreallocatedExceptionMode() {
+        MessagesHelper helper = new MessagesHelperImpl("Input rejected", MessageFullConstructionException.class, ExceptionMode.PREALLOCATED);
+        Exception exception = helper.createExceptionWithMessage();
+        assertSame(exception, helper.createExceptionWithMessage());
+        assertEquals("Input rejected", exception.getMessage());
+        assertEquals(0, exception.getStackTrace().length);
+
+        MessagesHelper parameterized = new MessagesHelperImpl(TEMPLATE, MessageFullConstructionException.class, ExceptionMode.PREALLOCATED);
+        assertNotSame(parameterized.createExceptionWithMessage("test"), parameterized.createExceptionWithMessage("test"));
+    }
+
+    @Test
+    void testStacklessExceptionModeRequiresFullConstructor() {
+        assertThrows(MessagesException.class, () -> new MessagesHelperImpl(TEMPLATE, MessageOnlyException.class, ExceptionMode.STACKLESS));
+    }
+
+    @Test
+    void testLazyMessageException() {
+        AtomicInteger renderCount = new AtomicInteger();
+        Object parameter = new Object() {
+            @Override
+            public String toString() {
+                renderCount.incrementAndGet();
+                return "test";
+            }
+        };
+
+        MessagesHelper helper = new MessagesHelperImpl(TEMPLATE, LazyMessageException.class);
+        Exception exception = helper.createExceptionWithMessage(parameter);
+        assertInstanceOf(LazyMessageException.class, exception);
+        assertEquals(0, renderCount.get());
+
+        assertEquals("Example non-log/non-exception message test", exception.getMessage());
+        assertEquals(LazyMessageException.class.getName() + ": Example non-log/non-exception message test", exception.toString());
+        assertEquals(1, renderCount.get());
+
+        assertThrows(MessagesException.class, () -> helper.createExceptionWithMessage("test", "test"));
+    }
+
+    @Test
+    void testLazyMessageExceptionStackless() {
+        MessagesHelper helper = new MessagesHelperImpl(TEMPLATE, LazyMessageException.class, ExceptionMode.STACKLESS);
+        Exception cause = new IOException("io exception");
+        Exception exception = helper.createExceptionWithCause(cause, 42);
+        assertEquals("Example non-log/non-exception message 42", exception.getMessage());
+        assertSame(cause, exception.getCause());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void testSupplierConstructorException() {
+        MessagesHelper helper = new MessagesHelperImpl(TEMPLATE, SupplierMessageException.class);
+        Exception cause = new IOException("io exception");
+        Exception exception = helper.createExceptionWithCause(cause, "test");
+        assertInstanceOf(SupplierMessageException.class, exception);
+        assertEquals("Example non-log/non-exception message test", exception.getMessage());
+        assertThrows(MessagesException.class, () -> helper.createExceptionWithMessage("test"));
+    }
+
     @Test
     void testAllConstructorsWithInvalidNumberOfReplacementVariables() {
         IOException exception = new IOException("io exception");
@@ -120,4 +276,15 @@ class MessagesHelperTest {
         MessagesHelper helper3 = new MessagesHelperImpl(TEMPLATE, MessageFullConstructionException.class);
         assertThrows(MessagesException.class, () -> helper3.createExceptionFullParameters(exception, true, true));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testDefaultExceptionMode() {
+        // An implementation written before exception modes existed only has the default method.
+        MessagesHelper legacy = (MessagesHelper) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{MessagesHelper.class},
+                InvocationHandler::invokeDefault);
+        assertEquals(ExceptionMode.STACK_TRACE, legacy.getExceptionMode());
+        assertEquals(ExceptionMode.STACK_TRACE, new MessagesHelperImpl(TEMPLATE).getExceptionMode());
+        assertEquals(ExceptionMode.PREALLOCATED,
+                new MessagesHelperImpl(TEMPLATE, MessageFullConstructionException.class, ExceptionMode.PREALLOCATED).getExceptionMode());
+    }
+}
@@ -0,0 +1,8 @@
+package eu.oberon.oss.tools.i18n.formatter.exceptions;
+
+public class FailingConstructionException extends RuntimeException {
+    public FailingConstructionException(String message) {
+        super(message);
+        throw new IllegalStateException("Construction failed: " + message);
+    }
+}
@@ -0,0 +1,17 @@
+package eu.oberon.oss.tools.i18n.formatter.exceptions;
+
+import java.util.function.Supplier;
+
+public class SupplierMessageException extends Exception {
+    private final transient Supplier<String> messageSupplier;
+
+    public SupplierMessageException(Supplier<String> messageSupplier, Throwable cause) {
+        super(cause);
+        this.messageSupplier = messageSupplier;
+    }
+
+    @Override
+    public String getMessage() {
+        return messageSupplier.get();
+    }
+}
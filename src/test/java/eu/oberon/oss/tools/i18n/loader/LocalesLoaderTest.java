@@ -0,0 +1,100 @@
+package eu.oberon.oss.tools.i18n.loader;
+
+import nl.altindag.log.LogCaptor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalesLoaderTest {
+    private static final File SET_1 = new File("src/test/resources/set-1");
+
+    @TempDir
+    private Path directory;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testLoadLocales(boolean parallel) {
+        Set<Locale> expected = Stream.of("", "de", "en", "nl", "nl-NL", "nl-BE-1331", "nl-Text", "nl-Text-NL", "nl-Text-BE-1331")
+                .map(tag -> tag.isEmpty() ? Locale.ROOT : new Locale.Builder().setLanguageTag(tag).build())
+                .collect(Collectors.toSet());
+        try (LogCaptor logCaptor = LogCaptor.forClass(LocalesLoader.class)) {
+            assertEquals(expected, LocalesLoader.loadLocales("Default", SET_1, parallel));
+            assertTrue(logCaptor.getInfoLogs().isEmpty());
+        }
+    }
+
+    @Test
+    void testBaseNameIsMatchedLiterally() throws IOException {
+        createFiles("Default.properties", "Default_nl.properties", "DefaultExtra.properties", "DefaultExtra_en.properties",
+                "Default.Extra_de.properties", "notes.txt");
+
+        assertEquals(Set.of(Locale.ROOT, Locale.forLanguageTag("nl")), LocalesLoader.loadLocales("Default", directory.toFile()));
+        assertEquals(Set.of(Locale.ROOT, Locale.forLanguageTag("en")), LocalesLoader.loadLocales("DefaultExtra", directory.toFile()));
+        assertEquals(Set.of(Locale.forLanguageTag("de")), LocalesLoader.loadLocales("Default.Extra", directory.toFile()));
+        assertThrows(IllegalStateException.class, () -> LocalesLoader.loadLocales("Default.*", directory.toFile()));
+    }
+
+    @Test
+    void testDiscoverBundles() throws IOException {
+        createFiles("Default.properties", "Default_nl.properties", "Default_nl_NL.properties",
+                "my_messages.properties", "my_messages_en_GB.properties",
+                "Errors.properties", "Errors_de.properties", "Errors_fr.properties", "notes.txt");
+
+        Map<String, Set<Locale>> bundles = LocalesLoader.discoverBundles(directory.toFile());
+        assertEquals(Map.of(
+                "Default", Set.of(Locale.ROOT, Locale.forLanguageTag("nl"), Locale.forLanguageTag("nl-NL")),
+                "my_messages", Set.of(Locale.ROOT, Locale.forLanguageTag("en-GB")),
+                "Errors", Set.of(Locale.ROOT, Locale.forLanguageTag("de"), Locale.forLanguageTag("fr"))), bundles);
+    }
+
+    @Test
+    void testDiscoverBundlesKeepsRootNames() throws IOException {
+        createFiles("my_app.properties", "my_app_nl.properties", "my_ui.properties", "Errors_de.properties");
+
+        Map<String, Set<Locale>> bundles = LocalesLoader.discoverBundles(directory.toFile());
+        assertEquals(Map.of(
+                "my_app", Set.of(Locale.ROOT, Locale.forLanguageTag("nl")),
+                "my_ui", Set.of(Locale.ROOT),
+                "Errors_de", Set.of(Locale.ROOT)), bundles);
+    }
+
+    @Test
+    void testDiscoverBundlesSkipsInvalidLocales() throws IOException {
+        createFiles("notes.properties", "notes_ab_1.properties", "Default.properties", "Default_nl.properties");
+
+        try (LogCaptor logCaptor = LogCaptor.forClass(LocalesLoader.class)) {
+            logCaptor.setLogLevelToDebug();
+            Map<String, Set<Locale>> bundles = LocalesLoader.discoverBundles(directory.toFile());
+            assertEquals(Map.of(
+                    "notes", Set.of(Locale.ROOT),
+                    "Default", Set.of(Locale.ROOT, Locale.forLanguageTag("nl"))), bundles);
+            assertTrue(logCaptor.getDebugLogs().stream().anyMatch(log -> log.startsWith("Skipping 'notes_ab_1.properties'")),
+                    logCaptor.getDebugLogs().toString());
+        }
+    }
+
+    @Test
+    void testDiscoverBundlesMatchesLoadLocales() {
+        Map<String, Set<Locale>> bundles = LocalesLoader.discoverBundles(SET_1);
+        assertEquals(Map.of("Default", LocalesLoader.loadLocales("Default", SET_1)), bundles);
+    }
+
+    private void createFiles(String... fileNames) throws IOException {
+        for (String fileName : fileNames) {
+            Files.createFile(directory.resolve(fileName));
+        }
+    }
+}
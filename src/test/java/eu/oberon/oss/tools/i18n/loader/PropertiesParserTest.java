@@ -0,0 +1,62 @@
+package eu.oberon.oss.tools.i18n.loader;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PropertiesParserTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "key1=value1\nkey2 = value2\r\nkey3:value3\rkey4 value4",
+            "  # comment\n! other comment\n\n   key = value with trailing spaces   \n",
+            "key=first line \\\n    second line \\\r\n\tthird line",
+            "key\\ with\\ spaces=value\\=with\\:separators",
+            "escapes=\\t\\n\\r\\f\\\\\\q\\u0041\\u00e9",
+            "key:=value\nkey2  =  :value\nkey3\t\fvalue",
+            "emptyValue=\nemptyKey\n=noKey",
+            "# comment with continuation \\\nkey=value",
+            "key=value\\\n\nafter=blank",
+            "duplicate=first\nduplicate=second",
+            "trailing=backslash\\",
+            "key=\\\n# not a comment",
+            "unicode=é中文 and emoji 😀"
+    })
+    void parseMatchesPropertiesTest(String content) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new StringReader(content));
+        Map<String, String> expected = new HashMap<>();
+        properties.stringPropertyNames().forEach(key -> expected.put(key, properties.getProperty(key)));
+
+        assertEquals(expected, PropertiesParser.parse(content));
+    }
+
+    @Test
+    void parseFileTest(@TempDir Path directory) throws IOException {
+        Path utf8 = directory.resolve("utf8.properties");
+        Files.writeString(utf8, "key=café\n", StandardCharsets.UTF_8);
+        assertEquals(Map.of("key", "café"), PropertiesParser.parse(utf8));
+
+        Path latin1 = directory.resolve("latin1.properties");
+        Files.writeString(latin1, "key=café\n", StandardCharsets.ISO_8859_1);
+        assertEquals(Map.of("key", "café"), PropertiesParser.parse(latin1));
+    }
+
+    @Test
+    void malformedUnicodeEscapeTest() {
+        assertThrows(IllegalArgumentException.class, () -> PropertiesParser.parse("key=\\u00g1"));
+        assertThrows(IllegalArgumentException.class, () -> PropertiesParser.parse("key=\\u00"));
+    }
+}